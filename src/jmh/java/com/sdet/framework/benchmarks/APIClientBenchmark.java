@@ -0,0 +1,77 @@
+package com.sdet.framework.benchmarks;
+
+import com.sdet.framework.api.APIClient;
+import com.sdet.framework.api.ApiCall;
+import com.sdet.framework.api.StubServer;
+import io.restassured.specification.RequestSpecification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * APIClientBenchmark - APIClient request building and full round trips against a StubServer on the
+ * loopback interface (routes from src/test/resources/stubs), so the score is client and RestAssured
+ * overhead plus a local HTTP exchange. The response cache is off; framework logging runs at WARN.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dframework.log.level=WARN")
+@State(Scope.Benchmark)
+public class APIClientBenchmark {
+
+    private final Map<String, String> query = Map.of("page", "1", "size", "20");
+    private final Map<String, String> user = Map.of("name", "Jane Doe", "email", "jane@example.com");
+    private StubServer stub;
+    private APIClient client;
+
+    @Setup
+    public void setUp() {
+        stub = StubServer.start(Path.of("src/test/resources/stubs"));
+        client = new APIClient(stub.getBaseUrl())
+                .useResponseCache(null)
+                .addHeader("Accept", "application/json");
+    }
+
+    @TearDown
+    public void tearDown() {
+        stub.close();
+    }
+
+    /** Fork the base specification and add query parameters and a body, without sending */
+    @Benchmark
+    public RequestSpecification buildRequest() {
+        RequestSpecification spec = client.addQueryParams(query).addBody(user).request();
+        client.reset();
+        return spec;
+    }
+
+    @Benchmark
+    public int get() {
+        return client.get("/users/1").getStatusCode();
+    }
+
+    /** POST with a serialized JSON body; the stub echoes it back */
+    @Benchmark
+    public int post() {
+        return client.addBody(user).post("/users").getStatusCode();
+    }
+
+    @Benchmark
+    public int execute() {
+        return client.execute(ApiCall.get("/products").withQueryParams(query)).getStatusCode();
+    }
+}
@@ -0,0 +1,132 @@
+package com.sdet.framework.benchmarks;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * BaselineComparison - compares a JMH JSON result (-rf json) with a stored baseline and exits with 1
+ * when a benchmark got slower than the tolerance allows.
+ *
+ * A benchmark is matched by name and parameters. It regressed when its score is worse than the baseline
+ * by more than the tolerance and the two confidence intervals (score +/- error) do not overlap, so noise
+ * alone does not fail a build. Lower is better for time modes, higher for throughput. Benchmarks missing
+ * from either file are listed but never fail the comparison.
+ *
+ * Usage: BaselineComparison &lt;result.json&gt; &lt;baseline.json&gt; [tolerance, default 0.15]
+ * With -Djmh.baseline.update=true the result replaces the baseline instead.
+ */
+public class BaselineComparison {
+
+    /** Score, error and unit of one benchmark run */
+    record Score(String mode, double score, double error, String unit) {
+
+        boolean higherIsBetter() {
+            return "thrpt".equals(mode);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BaselineComparison <result.json> <baseline.json> [tolerance]");
+            System.exit(2);
+        }
+        Path result = Path.of(args[0]);
+        Path baseline = Path.of(args[1]);
+        double tolerance = args.length > 2 ? Double.parseDouble(args[2]) : 0.15;
+        if (!Files.exists(result)) {
+            System.err.println("No benchmark result at " + result + "; run the benchmarks first");
+            System.exit(2);
+        }
+        if (Boolean.getBoolean("jmh.baseline.update")) {
+            Files.createDirectories(baseline.toAbsolutePath().getParent());
+            Files.copy(result, baseline, StandardCopyOption.REPLACE_EXISTING);
+            System.out.println("Baseline " + baseline + " updated from " + result);
+            return;
+        }
+        if (!Files.exists(baseline)) {
+            System.out.println("No baseline at " + baseline + "; store this run with -Djmh.baseline.update=true");
+            return;
+        }
+        int regressions = compare(read(baseline), read(result), tolerance);
+        if (regressions > 0) {
+            System.out.println(regressions + " benchmark(s) regressed by more than "
+                    + Math.round(tolerance * 100) + "% against " + baseline);
+            System.exit(1);
+        }
+        System.out.println("No benchmark regressed by more than " + Math.round(tolerance * 100) + "%");
+    }
+
+    /**
+     * Print one line per benchmark and return how many regressed
+     */
+    static int compare(Map<String, Score> baseline, Map<String, Score> current, double tolerance) {
+        int regressions = 0;
+        Map<String, Score> all = new TreeMap<>(baseline);
+        all.putAll(current);
+        for (String name : all.keySet()) {
+            Score before = baseline.get(name);
+            Score after = current.get(name);
+            if (before == null || after == null) {
+                System.out.println(String.format(Locale.ROOT, "%-10s %s", before == null ? "NEW" : "MISSING", name));
+                continue;
+            }
+            // Positive change = slower, whatever the mode
+            double change = (after.score() - before.score()) / before.score();
+            if (after.higherIsBetter()) {
+                change = -change;
+            }
+            boolean separated = after.higherIsBetter()
+                    ? after.score() + after.error() < before.score() - before.error()
+                    : after.score() - after.error() > before.score() + before.error();
+            String status;
+            if (change > tolerance && separated) {
+                status = "REGRESSED";
+                regressions++;
+            } else if (change < -tolerance) {
+                status = "IMPROVED";
+            } else {
+                status = "OK";
+            }
+            System.out.println(String.format(Locale.ROOT, "%-10s %s: %.3f -> %.3f %s (%+.1f%%)",
+                    status, name, before.score(), after.score(), after.unit(), change * 100));
+        }
+        return regressions;
+    }
+
+    /**
+     * Scores of a JMH JSON result keyed by benchmark name and parameters
+     */
+    static Map<String, Score> read(Path file) throws IOException {
+        Map<String, Score> scores = new LinkedHashMap<>();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            JsonArray runs = JsonParser.parseReader(reader).getAsJsonArray();
+            for (JsonElement element : runs) {
+                JsonObject run = element.getAsJsonObject();
+                StringBuilder name = new StringBuilder(run.get("benchmark").getAsString());
+                if (run.has("params")) {
+                    new TreeMap<>(run.getAsJsonObject("params").asMap())
+                            .forEach((param, value) -> name.append(' ').append(param).append('=').append(value.getAsString()));
+                }
+                JsonObject metric = run.getAsJsonObject("primaryMetric");
+                JsonElement error = metric.get("scoreError");
+                scores.put(name.toString(), new Score(run.get("mode").getAsString(), metric.get("score").getAsDouble(),
+                        error == null || !error.isJsonPrimitive() || Double.isNaN(error.getAsDouble()) ? 0 : error.getAsDouble(),
+                        metric.get("scoreUnit").getAsString()));
+            }
+        }
+        return scores;
+    }
+}
@@ -0,0 +1,58 @@
+package com.sdet.framework.benchmarks;
+
+import com.sdet.framework.utils.ConfigReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ConfigReaderBenchmark - property lookups as the framework does them on every action and request:
+ * a key from config.properties, a missing key with a default, a -D override, and the typed getters.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Dframework.log.level=WARN", "-Dheadless.mode=true"})
+@State(Scope.Benchmark)
+public class ConfigReaderBenchmark {
+
+    @Benchmark
+    public String configuredKey() {
+        return ConfigReader.getProperty("api.base.url");
+    }
+
+    @Benchmark
+    public String missingKeyWithDefault() {
+        return ConfigReader.getProperty("benchmark.missing.key", "fallback");
+    }
+
+    /** headless.mode is set with -D, which takes precedence over config.properties */
+    @Benchmark
+    public String systemPropertyOverride() {
+        return ConfigReader.getProperty("headless.mode");
+    }
+
+    @Benchmark
+    public long explicitWait() {
+        return ConfigReader.getExplicitWait();
+    }
+
+    @Benchmark
+    public boolean headless() {
+        return ConfigReader.isHeadless();
+    }
+
+    @Benchmark
+    public String browserProfile() {
+        return ConfigReader.getBrowserProfile();
+    }
+}
@@ -0,0 +1,83 @@
+package com.sdet.framework.benchmarks;
+
+import com.sdet.framework.api.JsonPathExpression;
+import com.sdet.framework.api.JsonView;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JsonPathBenchmark - extracting "id" and "name" from a user response the way the step definitions
+ * do it: RestAssured's jsonPath() per lookup versus the streaming JsonView with compiled expressions.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonPathBenchmark {
+
+    /** Number of orders embedded in the user document */
+    @Param({"10", "1000"})
+    private int orders;
+
+    private byte[] body;
+    private Response response;
+    private JsonView cachedView;
+
+    @Setup
+    public void setUp() {
+        StringBuilder json = new StringBuilder("{\"id\": 1, \"name\": \"Jane Doe\", \"email\": \"jane@example.com\", \"orders\": [");
+        for (int i = 0; i < orders; i++) {
+            json.append(i == 0 ? "" : ",")
+                    .append("{\"id\": ").append(i).append(", \"total\": ").append(i * 3.5)
+                    .append(", \"status\": \"shipped\"}");
+        }
+        body = json.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+        response = new ResponseBuilder().setStatusCode(200).setContentType("application/json").setBody(body).build();
+        cachedView = JsonView.of(() -> new ByteArrayInputStream(body));
+        cachedView.extract("id", "name");
+    }
+
+    /** Current step-definition path: each lookup builds a new JsonPath object graph */
+    @Benchmark
+    public void restAssuredJsonPath(Blackhole blackhole) {
+        blackhole.consume(response.jsonPath().getString("id"));
+        blackhole.consume(response.jsonPath().getString("name"));
+    }
+
+    /** First assertion on a response: one streaming pass for both paths */
+    @Benchmark
+    public void jsonViewSinglePass(Blackhole blackhole) {
+        blackhole.consume(JsonView.of(() -> new ByteArrayInputStream(body)).extract("id", "name"));
+    }
+
+    /** Later assertions on the same response: served from the cached view */
+    @Benchmark
+    public void jsonViewCached(Blackhole blackhole) {
+        blackhole.consume(cachedView.getString("id"));
+        blackhole.consume(cachedView.getString("name"));
+    }
+
+    /** Cost of resolving an expression through the compiled expression cache */
+    @Benchmark
+    public JsonPathExpression compiledExpressionLookup() {
+        return JsonPathExpression.compile("$.orders[3].status");
+    }
+}
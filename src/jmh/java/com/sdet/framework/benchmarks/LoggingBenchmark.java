@@ -0,0 +1,95 @@
+package com.sdet.framework.benchmarks;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.async.AsyncLoggerContextSelector;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.apache.logging.log4j.core.config.builder.api.ConfigurationBuilder;
+import org.apache.logging.log4j.core.config.builder.api.ConfigurationBuilderFactory;
+import org.apache.logging.log4j.core.config.builder.impl.BuiltConfiguration;
+import org.apache.logging.log4j.core.selector.ClassLoaderContextSelector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LoggingBenchmark - cost of one WebDriverUtils-style log line per action on 4 parallel test threads:
+ * string concatenation versus parameterized messages, with INFO disabled (level WARN) and enabled,
+ * through synchronous loggers and through the async (disruptor) loggers of log4j2.component.properties.
+ *
+ * Run with the GC profiler to see the allocation per action (gc.alloc.rate.norm):
+ * mvn -Pbenchmarks test-compile exec:exec -Djmh.args="Logging -prof gc"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class LoggingBenchmark {
+
+    /** Logger implementation; every value runs in its own fork, so the context selector can be chosen in setUp */
+    @Param({"sync", "async"})
+    private String loggers;
+
+    /** WARN = INFO disabled, INFO = every action is written */
+    @Param({"WARN", "INFO"})
+    private String level;
+
+    private final By locator = By.id("user-name");
+    private final String text = "standard_user";
+    private Path logFile;
+    private Logger logger;
+
+    @Setup
+    public void setUp() throws IOException {
+        System.setProperty("log4j2.contextSelector", "async".equals(loggers)
+                ? AsyncLoggerContextSelector.class.getName() : ClassLoaderContextSelector.class.getName());
+        logFile = Files.createTempFile("logging-benchmark", ".log");
+
+        ConfigurationBuilder<BuiltConfiguration> builder = ConfigurationBuilderFactory.newConfigurationBuilder();
+        builder.add(builder.newAppender("file", "RandomAccessFile")
+                .addAttribute("fileName", logFile.toString())
+                .addAttribute("immediateFlush", false)
+                .add(builder.newLayout("PatternLayout").addAttribute("pattern", "%d{HH:mm:ss.SSS} [%t] %-5p %c{1} - %m%n")));
+        builder.add(builder.newRootLogger(Level.valueOf(level)).add(builder.newAppenderRef("file")));
+        Configurator.initialize(builder.build());
+        logger = LogManager.getLogger(LoggingBenchmark.class);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        LogManager.shutdown();
+        Files.deleteIfExists(logFile);
+    }
+
+    /** Previous WebDriverUtils.sendText logging: the message is built even when INFO is off */
+    @Benchmark
+    public void concatenated() {
+        logger.info("Sent text '" + text + "' to element: " + locator);
+    }
+
+    /** Current WebDriverUtils.sendText logging: formatted only when INFO is on, into reused buffers */
+    @Benchmark
+    public void parameterized() {
+        logger.info("Sent text '{}' to element: {}", text, locator);
+    }
+}
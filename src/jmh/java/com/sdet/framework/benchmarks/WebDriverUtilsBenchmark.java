@@ -0,0 +1,70 @@
+package com.sdet.framework.benchmarks;
+
+import com.sdet.framework.tests.support.InMemoryWebDriver;
+import com.sdet.framework.utils.WebDriverUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WebDriverUtilsBenchmark - what WebDriverUtils adds to an element action (wait, metrics, impact
+ * tracking, logging) over the bare driver call, measured against the {@link InMemoryWebDriver} so no
+ * browser time is included. Uses the polling wait engine; framework logging runs at WARN as on a quiet CI run.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Dwait.engine=polling", "-Dframework.log.level=WARN"})
+@State(Scope.Thread)
+public class WebDriverUtilsBenchmark {
+
+    private final By username = By.id("user-name");
+    private final By title = By.cssSelector(".title");
+    private InMemoryWebDriver driver;
+    private WebDriverUtils utils;
+
+    @Setup
+    public void setUp() {
+        driver = new InMemoryWebDriver()
+                .withElement(username, "")
+                .withElement(title, "Products");
+        utils = new WebDriverUtils(driver);
+    }
+
+    /** The driver calls behind click() without the framework */
+    @Benchmark
+    public void driverClick() {
+        driver.findElement(username).click();
+    }
+
+    @Benchmark
+    public void click() {
+        utils.click(username);
+    }
+
+    @Benchmark
+    public void sendText() {
+        utils.sendText(username, "standard_user");
+    }
+
+    @Benchmark
+    public String getText() {
+        return utils.getText(title);
+    }
+
+    @Benchmark
+    public boolean isElementVisible() {
+        return utils.isElementVisible(title);
+    }
+}
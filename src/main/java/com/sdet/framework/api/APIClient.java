@@ -1,35 +1,98 @@
 package com.sdet.framework.api;
 
+import com.sdet.framework.utils.ConfigReader;
+import com.sdet.framework.utils.Metrics;
+import com.sdet.framework.utils.TestImpact;
 import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.filter.FilterContext;
+import io.restassured.http.Method;
 import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
 import io.restassured.specification.RequestSpecification;
+import org.apache.http.client.HttpClient;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static org.apache.logging.log4j.util.Unbox.box;
 
 /**
  * APIClient class for handling REST API requests
+ *
+ * Thread-safe: one instance can be shared by tests running in parallel.
+ * Headers and authentication added through this client are defaults for every request and are kept
+ * in an immutable base specification, rebuilt only when a default changes. Body and query parameters
+ * belong to the calling thread's next request and are cleared once it is sent.
+ * All instances share one bounded keep-alive connection pool (api.pool.* in config.properties).
+ * The *Async variants and executeAll run on a daemon platform thread pool: HttpClient 4 executes each
+ * request inside synchronized blocks, which would pin a virtual thread to its carrier for the whole call.
+ * Responses can be recorded and replayed through a {@link ResponseCache} (api.cache.* in config.properties).
+ * With {@link #withCredentials(CredentialProvider, String)} tokens come from a JVM-wide {@link TokenCache}.
+ * Every request's method and path is reported to {@link TestImpact} for test-impact selection.
+ * Every request is timed as api.&lt;METHOD&gt; in {@link Metrics}, including async calls on pool threads.
  */
 public class APIClient {
 
     private static final Logger logger = LogManager.getLogger(APIClient.class);
-    private RequestSpecification requestSpec;
+    // RestAssured 5 only accepts HttpClient 4's deprecated client and pool types (see createConnectionPool)
+    @SuppressWarnings("deprecation")
+    private static final PoolingClientConnectionManager connectionPool = createConnectionPool();
+    private static final ExecutorService asyncExecutor = Executors.newCachedThreadPool(
+            Thread.ofPlatform().name("api-async-", 1).daemon().factory());
+    private static final RestAssuredConfig pooledConfig = RestAssuredConfig.config()
+            .httpClient(HttpClientConfig.httpClientConfig().httpClientFactory(APIClient::newPooledHttpClient));
+
+    private final String baseUrl;
+    private final Map<String, String> defaultHeaders = new LinkedHashMap<>();
+    private String basicAuthUsername;
+    private String basicAuthPassword;
+    private ResponseCache responseCache = ResponseCache.fromConfig();
+    private CredentialProvider credentialProvider;
+    private String principal;
+    private TokenCache tokenCache;
+    private volatile RequestSpecification baseSpec;
+    private final ThreadLocal<RequestSpecification> pendingRequest = new ThreadLocal<>();
 
     /**
      * Initialize API client with base URL
      */
     public APIClient(String baseUrl) {
-        RestAssured.baseURI = baseUrl;
-        this.requestSpec = RestAssured.given();
-        logger.info("API Client initialized with base URL: " + baseUrl);
+        this.baseUrl = baseUrl;
+        this.baseSpec = buildBaseSpec();
+        logger.info("API Client initialized with base URL: {}", baseUrl);
+    }
+
+    /**
+     * Base URL for API tests: api.base.url, or the shared {@link StubServer} when api.stub.enabled=true
+     */
+    public static String configuredBaseUrl() {
+        return StubServer.isEnabled() ? StubServer.shared().getBaseUrl() : ConfigReader.getApiBaseUrl();
     }
 
     /**
      * Add headers to request
      */
     public APIClient addHeaders(Map<String, String> headers) {
-        headers.forEach((key, value) -> requestSpec.header(key, value));
-        logger.info("Headers added: " + headers);
+        synchronized (this) {
+            defaultHeaders.putAll(headers);
+            baseSpec = buildBaseSpec();
+        }
+        logger.info("Headers added: {}", headers);
         return this;
     }
 
@@ -37,25 +100,28 @@ public class APIClient {
      * Add single header
      */
     public APIClient addHeader(String key, String value) {
-        requestSpec.header(key, value);
-        logger.info("Header added: " + key + " = " + value);
+        synchronized (this) {
+            defaultHeaders.put(key, value);
+            baseSpec = buildBaseSpec();
+        }
+        logger.info("Header added: {} = {}", key, value);
         return this;
     }
 
     /**
-     * Add query parameters
+     * Add query parameters to the calling thread's next request
      */
     public APIClient addQueryParams(Map<String, String> params) {
-        requestSpec.queryParams(params);
-        logger.info("Query parameters added: " + params);
+        request().queryParams(params);
+        logger.info("Query parameters added: {}", params);
         return this;
     }
 
     /**
-     * Add request body (JSON)
+     * Add request body (JSON) to the calling thread's next request
      */
     public APIClient addBody(Object body) {
-        requestSpec.body(body);
+        request().body(body);
         logger.info("Request body added");
         return this;
     }
@@ -64,7 +130,11 @@ public class APIClient {
      * Add basic authentication
      */
     public APIClient addBasicAuth(String username, String password) {
-        requestSpec.auth().basic(username, password);
+        synchronized (this) {
+            basicAuthUsername = username;
+            basicAuthPassword = password;
+            baseSpec = buildBaseSpec();
+        }
         logger.info("Basic authentication added");
         return this;
     }
@@ -73,86 +143,303 @@ public class APIClient {
      * Add bearer token
      */
     public APIClient addBearerToken(String token) {
-        requestSpec.header("Authorization", "Bearer " + token);
+        synchronized (this) {
+            defaultHeaders.put("Authorization", "Bearer " + token);
+            baseSpec = buildBaseSpec();
+        }
         logger.info("Bearer token added");
         return this;
     }
 
+    /**
+     * Authenticate every request as the principal with a token from the provider, cached JVM-wide
+     * by {@link TokenCache#shared()} so parallel tests share one login per principal
+     */
+    public APIClient withCredentials(CredentialProvider provider, String principal) {
+        return withCredentials(provider, principal, TokenCache.shared());
+    }
+
+    /**
+     * Authenticate every request as the principal with a token from the provider, cached by the given cache.
+     * A 401 response drops the cached token so the next request fetches a new one.
+     */
+    public APIClient withCredentials(CredentialProvider provider, String principal, TokenCache cache) {
+        synchronized (this) {
+            this.credentialProvider = provider;
+            this.principal = principal;
+            this.tokenCache = cache;
+            baseSpec = buildBaseSpec();
+        }
+        logger.info("Credentials provider attached for principal: {}", principal);
+        return this;
+    }
+
+    /**
+     * Record and replay responses through a cache (null disables it).
+     * By default the cache configured by api.cache.* in config.properties is used.
+     */
+    public APIClient useResponseCache(ResponseCache cache) {
+        synchronized (this) {
+            responseCache = cache;
+            baseSpec = buildBaseSpec();
+        }
+        logger.info("Response cache {}", cache == null ? "disabled" : "enabled");
+        return this;
+    }
+
+    /**
+     * The calling thread's next request, forked from the base specification on first use.
+     * Use it for request options the client doesn't wrap (cookies, multipart, filters).
+     */
+    public RequestSpecification request() {
+        RequestSpecification spec = pendingRequest.get();
+        if (spec == null) {
+            spec = RestAssured.given().spec(baseSpec);
+            pendingRequest.set(spec);
+        }
+        return spec;
+    }
+
     /**
      * Perform GET request
      */
     public Response get(String endpoint) {
-        try {
-            Response response = requestSpec.get(endpoint);
-            logger.info("GET request executed: " + endpoint + " - Status: " + response.getStatusCode());
-            return response;
-        } catch (Exception e) {
-            logger.error("GET request failed: " + endpoint + " - " + e.getMessage());
-            throw e;
-        }
+        return send(Method.GET, endpoint, takeRequest());
     }
 
     /**
      * Perform POST request
      */
     public Response post(String endpoint) {
-        try {
-            Response response = requestSpec.post(endpoint);
-            logger.info("POST request executed: " + endpoint + " - Status: " + response.getStatusCode());
-            return response;
-        } catch (Exception e) {
-            logger.error("POST request failed: " + endpoint + " - " + e.getMessage());
-            throw e;
-        }
+        return send(Method.POST, endpoint, takeRequest());
     }
 
     /**
      * Perform PUT request
      */
     public Response put(String endpoint) {
-        try {
-            Response response = requestSpec.put(endpoint);
-            logger.info("PUT request executed: " + endpoint + " - Status: " + response.getStatusCode());
-            return response;
-        } catch (Exception e) {
-            logger.error("PUT request failed: " + endpoint + " - " + e.getMessage());
-            throw e;
-        }
+        return send(Method.PUT, endpoint, takeRequest());
     }
 
     /**
      * Perform DELETE request
      */
     public Response delete(String endpoint) {
-        try {
-            Response response = requestSpec.delete(endpoint);
-            logger.info("DELETE request executed: " + endpoint + " - Status: " + response.getStatusCode());
-            return response;
-        } catch (Exception e) {
-            logger.error("DELETE request failed: " + endpoint + " - " + e.getMessage());
-            throw e;
-        }
+        return send(Method.DELETE, endpoint, takeRequest());
     }
 
     /**
      * Perform PATCH request
      */
     public Response patch(String endpoint) {
-        try {
-            Response response = requestSpec.patch(endpoint);
-            logger.info("PATCH request executed: " + endpoint + " - Status: " + response.getStatusCode());
-            return response;
-        } catch (Exception e) {
-            logger.error("PATCH request failed: " + endpoint + " - " + e.getMessage());
-            throw e;
+        return send(Method.PATCH, endpoint, takeRequest());
+    }
+
+    /**
+     * Perform GET request asynchronously.
+     * Like the blocking variants, the calling thread's pending body and query parameters are used.
+     */
+    public CompletableFuture<Response> getAsync(String endpoint) {
+        return sendAsync(Method.GET, endpoint);
+    }
+
+    /**
+     * Perform POST request asynchronously
+     */
+    public CompletableFuture<Response> postAsync(String endpoint) {
+        return sendAsync(Method.POST, endpoint);
+    }
+
+    /**
+     * Perform PUT request asynchronously
+     */
+    public CompletableFuture<Response> putAsync(String endpoint) {
+        return sendAsync(Method.PUT, endpoint);
+    }
+
+    /**
+     * Perform DELETE request asynchronously
+     */
+    public CompletableFuture<Response> deleteAsync(String endpoint) {
+        return sendAsync(Method.DELETE, endpoint);
+    }
+
+    /**
+     * Perform PATCH request asynchronously
+     */
+    public CompletableFuture<Response> patchAsync(String endpoint) {
+        return sendAsync(Method.PATCH, endpoint);
+    }
+
+    /**
+     * Execute a self-contained call; the calling thread's pending request is not touched
+     */
+    public Response execute(ApiCall call) {
+        RequestSpecification spec = RestAssured.given().spec(baseSpec);
+        if (call.body() != null) {
+            spec.body(call.body());
+        }
+        if (!call.queryParams().isEmpty()) {
+            spec.queryParams(call.queryParams());
         }
+        if (!call.headers().isEmpty()) {
+            spec.headers(call.headers());
+        }
+        return send(call.method(), call.endpoint(), spec);
     }
 
     /**
-     * Reset request specification
+     * Execute calls concurrently, at most api.async.concurrency at a time
+     */
+    public List<ApiCallResult> executeAll(List<ApiCall> calls) {
+        return executeAll(calls, Integer.parseInt(ConfigReader.getProperty("api.async.concurrency", "16")));
+    }
+
+    /**
+     * Execute calls concurrently with at most {@code concurrency} in flight.
+     * Results are returned in the order of {@code calls}; a failed call carries its error instead
+     * of failing the batch.
+     */
+    public List<ApiCallResult> executeAll(List<ApiCall> calls, int concurrency) {
+        Semaphore permits = new Semaphore(Math.max(1, concurrency));
+        long start = System.nanoTime();
+        Metrics.Scope scope = Metrics.currentScope();
+        List<CompletableFuture<ApiCallResult>> pending = new ArrayList<>(calls.size());
+        for (ApiCall call : calls) {
+            TestImpact.touchEndpoint(call.method().name(), call.endpoint());
+            // Wait for a permit here, so no more than `concurrency` pool threads are ever busy with this batch
+            permits.acquireUninterruptibly();
+            pending.add(CompletableFuture.supplyAsync(() -> {
+                long callStart = System.nanoTime();
+                try {
+                    Response response = Metrics.inScope(scope, () -> execute(call));
+                    return new ApiCallResult(call, response, null, System.nanoTime() - callStart);
+                } catch (Exception e) {
+                    // RestAssured rethrows checked I/O errors (e.g. a dropped connection) without declaring them
+                    return new ApiCallResult(call, null, e, System.nanoTime() - callStart);
+                } finally {
+                    permits.release();
+                }
+            }, asyncExecutor));
+        }
+        List<ApiCallResult> results = pending.stream().map(CompletableFuture::join).toList();
+        logger.info("Executed {} calls (concurrency {}) in {} ms", box(calls.size()), box(concurrency),
+                box(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+        return results;
+    }
+
+    /**
+     * Discard the calling thread's pending body and query parameters.
+     * Default headers and authentication are kept.
      */
     public void reset() {
-        this.requestSpec = RestAssured.given();
+        pendingRequest.remove();
         logger.info("Request specification reset");
     }
+
+    /**
+     * Get base URL of this client
+     */
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    private CompletableFuture<Response> sendAsync(Method method, String endpoint) {
+        TestImpact.touchEndpoint(method.name(), endpoint);
+        RequestSpecification spec = takeRequest();
+        Metrics.Scope scope = Metrics.currentScope();
+        return CompletableFuture.supplyAsync(() -> Metrics.inScope(scope, () -> send(method, endpoint, spec)), asyncExecutor);
+    }
+
+    private Response send(Method method, String endpoint, RequestSpecification spec) {
+        TestImpact.touchEndpoint(method.name(), endpoint);
+        return Metrics.time("api." + method, () -> {
+            try {
+                Response response = spec.request(method, endpoint);
+                logger.info("{} request executed: {} - Status: {}", method, endpoint, box(response.getStatusCode()));
+                return response;
+            } catch (Exception e) {
+                logger.error("{} request failed: {} - {}", method, endpoint, e.getMessage());
+                throw e;
+            }
+        });
+    }
+
+    /**
+     * Hand over the calling thread's pending request (or a fresh fork) and clear it
+     */
+    private RequestSpecification takeRequest() {
+        RequestSpecification spec = pendingRequest.get();
+        pendingRequest.remove();
+        return spec != null ? spec : RestAssured.given().spec(baseSpec);
+    }
+
+    /**
+     * Build the immutable base specification from the current defaults. Callers hold the instance lock.
+     */
+    private RequestSpecification buildBaseSpec() {
+        RequestSpecBuilder builder = new RequestSpecBuilder()
+                .setBaseUri(baseUrl)
+                .setConfig(pooledConfig)
+                .addHeaders(defaultHeaders);
+        if (responseCache != null) {
+            // First, so a replayed response needs no token and never reaches the connection pool
+            builder.addFilter(credentialProvider == null ? responseCache
+                    : responseCache.forPrincipal(credentialProvider.name() + "/" + principal));
+        }
+        if (credentialProvider != null) {
+            CredentialProvider provider = credentialProvider;
+            String user = principal;
+            TokenCache cache = tokenCache;
+            builder.addFilter((requestSpec, responseSpec, context) -> {
+                requestSpec.replaceHeader("Authorization", "Bearer " + cache.get(provider, user).value());
+                Response response = context.next(requestSpec, responseSpec);
+                if (response.getStatusCode() == 401) {
+                    cache.invalidate(provider, user);
+                }
+                return response;
+            });
+        }
+        builder.addFilter(APIClient::bufferResponse);
+        if (basicAuthUsername != null) {
+            builder.setAuth(RestAssured.basic(basicAuthUsername, basicAuthPassword));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Read the body to the end so the connection goes straight back to the pool
+     * instead of staying leased until the response is garbage collected
+     */
+    private static Response bufferResponse(FilterableRequestSpecification requestSpec,
+                                           FilterableResponseSpecification responseSpec, FilterContext context) {
+        Response response = context.next(requestSpec, responseSpec);
+        response.asByteArray();
+        return response;
+    }
+
+    /**
+     * RestAssured 5 still runs on HttpClient 4's AbstractHttpClient, so the pool uses the matching
+     * (deprecated) connection manager. A light client is created per request, but every client
+     * borrows connections from the one shared pool, so keep-alive connections are reused across
+     * requests, threads and APIClient instances.
+     */
+    @SuppressWarnings("deprecation")
+    private static PoolingClientConnectionManager createConnectionPool() {
+        long ttlSeconds = Long.parseLong(ConfigReader.getProperty("api.pool.keepalive.seconds", "30"));
+        PoolingClientConnectionManager pool = new PoolingClientConnectionManager(
+                SchemeRegistryFactory.createDefault(), ttlSeconds, TimeUnit.SECONDS);
+        pool.setMaxTotal(Integer.parseInt(ConfigReader.getProperty("api.pool.max.total", "50")));
+        pool.setDefaultMaxPerRoute(Integer.parseInt(ConfigReader.getProperty("api.pool.max.per.route", "20")));
+        return pool;
+    }
+
+    @SuppressWarnings("deprecation")
+    private static HttpClient newPooledHttpClient() {
+        long keepAliveMillis = TimeUnit.SECONDS.toMillis(
+                Long.parseLong(ConfigReader.getProperty("api.pool.keepalive.seconds", "30")));
+        DefaultHttpClient client = new DefaultHttpClient(connectionPool);
+        client.setKeepAliveStrategy((response, context) -> keepAliveMillis);
+        return client;
+    }
 }
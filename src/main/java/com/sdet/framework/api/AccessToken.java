@@ -0,0 +1,29 @@
+package com.sdet.framework.api;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * AccessToken - a bearer token and the instant it stops being valid
+ */
+public record AccessToken(String value, Instant expiresAt) {
+
+    /**
+     * Token valid for a duration from now
+     */
+    public static AccessToken validFor(String value, Duration lifetime) {
+        return new AccessToken(value, Instant.now().plus(lifetime));
+    }
+
+    /**
+     * Whether the token expires within the given margin from now (or already has)
+     */
+    public boolean expiresWithin(Duration margin) {
+        return !Instant.now().plus(margin).isBefore(expiresAt);
+    }
+
+    @Override
+    public String toString() {
+        return "AccessToken[expiresAt=" + expiresAt + "]";
+    }
+}
@@ -0,0 +1,62 @@
+package com.sdet.framework.api;
+
+import io.restassured.http.Method;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * ApiCall - immutable description of one request for {@link APIClient#execute(ApiCall)}
+ * and {@link APIClient#executeAll(java.util.List)}
+ */
+public record ApiCall(Method method, String endpoint, Object body, Map<String, String> queryParams,
+                      Map<String, String> headers) {
+
+    public ApiCall {
+        queryParams = Map.copyOf(queryParams);
+        headers = Map.copyOf(headers);
+    }
+
+    public static ApiCall get(String endpoint) {
+        return new ApiCall(Method.GET, endpoint, null, Map.of(), Map.of());
+    }
+
+    public static ApiCall post(String endpoint, Object body) {
+        return new ApiCall(Method.POST, endpoint, body, Map.of(), Map.of());
+    }
+
+    public static ApiCall put(String endpoint, Object body) {
+        return new ApiCall(Method.PUT, endpoint, body, Map.of(), Map.of());
+    }
+
+    public static ApiCall patch(String endpoint, Object body) {
+        return new ApiCall(Method.PATCH, endpoint, body, Map.of(), Map.of());
+    }
+
+    public static ApiCall delete(String endpoint) {
+        return new ApiCall(Method.DELETE, endpoint, null, Map.of(), Map.of());
+    }
+
+    /**
+     * Copy of this call with additional query parameters
+     */
+    public ApiCall withQueryParams(Map<String, String> params) {
+        Map<String, String> merged = new LinkedHashMap<>(queryParams);
+        merged.putAll(params);
+        return new ApiCall(method, endpoint, body, merged, headers);
+    }
+
+    /**
+     * Copy of this call with additional per-request headers
+     */
+    public ApiCall withHeaders(Map<String, String> extraHeaders) {
+        Map<String, String> merged = new LinkedHashMap<>(headers);
+        merged.putAll(extraHeaders);
+        return new ApiCall(method, endpoint, body, queryParams, merged);
+    }
+
+    @Override
+    public String toString() {
+        return method + " " + endpoint;
+    }
+}
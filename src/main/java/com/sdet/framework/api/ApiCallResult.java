@@ -0,0 +1,29 @@
+package com.sdet.framework.api;
+
+import io.restassured.response.Response;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ApiCallResult - outcome of one call in {@link APIClient#executeAll(java.util.List)}.
+ * Exactly one of response and error is set.
+ */
+public record ApiCallResult(ApiCall call, Response response, Throwable error, long durationNanos) {
+
+    /**
+     * True when the call completed with a response, whatever its status code
+     */
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    public long durationMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(durationNanos);
+    }
+
+    @Override
+    public String toString() {
+        return call + " -> " + (isSuccess() ? String.valueOf(response.getStatusCode()) : error.toString())
+                + " in " + durationMillis() + " ms";
+    }
+}
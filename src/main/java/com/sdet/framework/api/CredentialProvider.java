@@ -0,0 +1,21 @@
+package com.sdet.framework.api;
+
+/**
+ * CredentialProvider - obtains an access token for a user or role; plugged into an {@link APIClient}
+ * with {@link APIClient#withCredentials(CredentialProvider, String)} and cached by {@link TokenCache}
+ */
+@FunctionalInterface
+public interface CredentialProvider {
+
+    /**
+     * Authenticate the principal (user name or role) and return a fresh token
+     */
+    AccessToken fetch(String principal);
+
+    /**
+     * Cache namespace of this provider; tokens of providers with the same name are shared
+     */
+    default String name() {
+        return getClass().getName();
+    }
+}
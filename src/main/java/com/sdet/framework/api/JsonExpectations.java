@@ -0,0 +1,148 @@
+package com.sdet.framework.api;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * JsonExpectations - assertions on a response body that are checked together in a single streaming pass
+ * over the cached {@link JsonView}, instead of building a JsonPath object graph per assertion.
+ * All failures are reported in one AssertionError.
+ *
+ * <pre>
+ * JsonExpectations.expect(response)
+ *         .isValidJson()
+ *         .hasPath("id")
+ *         .hasValue("name", "Jane Doe")
+ *         .hasArraySize("items", 10)
+ *         .conformsTo(Map.of("items[*].id", "number", "items[*].name", "string"))
+ *         .verify();
+ * </pre>
+ */
+public final class JsonExpectations {
+
+    private final JsonView view;
+    private final Set<String> paths = new LinkedHashSet<>();
+    private final List<Consumer<List<String>>> checks = new ArrayList<>();
+    private final Map<String, String> schema = new LinkedHashMap<>();
+
+    private JsonExpectations(JsonView view) {
+        this.view = view;
+    }
+
+    /**
+     * Start describing expectations on a response body
+     */
+    public static JsonExpectations expect(Response response) {
+        return new JsonExpectations(JsonView.of(response));
+    }
+
+    /**
+     * Start describing expectations on a view
+     */
+    public static JsonExpectations expect(JsonView view) {
+        return new JsonExpectations(view);
+    }
+
+    /**
+     * The body is well-formed JSON
+     */
+    public JsonExpectations isValidJson() {
+        checks.add(failures -> {
+            if (!view.isValid()) {
+                failures.add("Body is not valid JSON: " + view.getError());
+            }
+        });
+        return this;
+    }
+
+    /**
+     * A value (possibly null) exists at the path
+     */
+    public JsonExpectations hasPath(String path) {
+        paths.add(path);
+        checks.add(failures -> {
+            if (!view.has(path)) {
+                failures.add(path + " is missing");
+            }
+        });
+        return this;
+    }
+
+    /**
+     * The scalar at the path equals the expected value (compared as text)
+     */
+    public JsonExpectations hasValue(String path, Object expected) {
+        paths.add(path);
+        checks.add(failures -> {
+            String actual = view.getString(path);
+            if (!Objects.equals(actual, expected == null ? null : expected.toString())) {
+                failures.add(path + " expected <" + expected + "> but was <" + actual + ">");
+            }
+        });
+        return this;
+    }
+
+    /**
+     * The array at the path has exactly this many elements
+     */
+    public JsonExpectations hasArraySize(String path, int expected) {
+        paths.add(path);
+        checks.add(failures -> {
+            int actual = view.getArraySize(path);
+            if (actual != expected) {
+                failures.add(path + " expected " + expected + " elements but " + (actual < 0 ? "is not an array" : "had " + actual));
+            }
+        });
+        return this;
+    }
+
+    /**
+     * Value types match a schema of path to type; see {@link JsonView#validate(Map)}
+     */
+    public JsonExpectations conformsTo(Map<String, String> typesByPath) {
+        schema.putAll(typesByPath);
+        return this;
+    }
+
+    /**
+     * Value types match a schema file holding a JSON object of path to type
+     */
+    public JsonExpectations conformsTo(Path schemaFile) {
+        try (Reader reader = Files.newBufferedReader(schemaFile)) {
+            Map<String, String> typesByPath = new Gson().fromJson(reader, new TypeToken<Map<String, String>>() { }.getType());
+            return conformsTo(typesByPath);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read JSON schema file: " + schemaFile, e);
+        }
+    }
+
+    /**
+     * Evaluate every expectation and fail with all violations at once
+     */
+    public void verify() {
+        // One pass captures the paths the checks read and checks the schema
+        Set<String> schemaViolations = view.validate(paths, schema);
+        List<String> failures = new ArrayList<>();
+        checks.forEach(check -> check.accept(failures));
+        if (!schema.isEmpty()) {
+            failures.addAll(schemaViolations);
+        }
+        if (!failures.isEmpty()) {
+            throw new AssertionError("JSON expectations failed:\n  " + String.join("\n  ", failures));
+        }
+    }
+}
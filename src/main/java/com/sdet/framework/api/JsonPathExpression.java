@@ -0,0 +1,204 @@
+package com.sdet.framework.api;
+
+import com.sdet.framework.utils.ConfigReader;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JsonPathExpression - a parsed path expression used by {@link JsonView}, compiled once per distinct
+ * expression string and kept in a process-wide LRU cache shared by every step and thread.
+ *
+ * Accepted syntax: an optional leading "$" or "$.", dot-separated field names, [n] indexes, [*] for every
+ * element and ['quoted name'] for names containing dots or brackets. Equivalent spellings ("$.items[0].id",
+ * "items[0].id") compile to the same canonical form, so they share captured values in a view.
+ *
+ * Configuration (config.properties):
+ * api.jsonpath.cache.size - compiled expressions kept before LRU eviction (default: 256)
+ */
+public final class JsonPathExpression {
+
+    /** Marker segment for [*] */
+    public static final Object WILDCARD = new Object() {
+        @Override
+        public String toString() {
+            return "[*]";
+        }
+    };
+
+    private static final String ROOT = "$";
+    private static final int CACHE_SIZE = Integer.parseInt(ConfigReader.getProperty("api.jsonpath.cache.size", "256"));
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+    private static final AtomicLong evictions = new AtomicLong();
+    private static final Map<String, JsonPathExpression> cache = Collections.synchronizedMap(
+            new LinkedHashMap<>(64, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, JsonPathExpression> eldest) {
+                    if (size() > CACHE_SIZE) {
+                        evictions.incrementAndGet();
+                        return true;
+                    }
+                    return false;
+                }
+            });
+
+    private final String expression;
+    private final List<Object> segments;
+    private final String canonical;
+    private final boolean wildcard;
+
+    private JsonPathExpression(String expression, List<Object> segments) {
+        this.expression = expression;
+        this.segments = List.copyOf(segments);
+        this.wildcard = segments.contains(WILDCARD);
+        this.canonical = render(segments);
+    }
+
+    /**
+     * The compiled form of an expression, from the cache when it was compiled before
+     */
+    public static JsonPathExpression compile(String expression) {
+        JsonPathExpression compiled = cache.get(expression);
+        if (compiled != null) {
+            hits.incrementAndGet();
+            return compiled;
+        }
+        misses.incrementAndGet();
+        compiled = new JsonPathExpression(expression, parse(expression));
+        cache.put(expression, compiled);
+        return compiled;
+    }
+
+    /**
+     * Compiled expression cache hits, misses, evictions and size, or null when nothing was compiled
+     */
+    public static String getCacheStats() {
+        if (misses.get() == 0) {
+            return null;
+        }
+        return "JsonPathExpression cache hits=" + hits.get() + " misses=" + misses.get()
+                + " evictions=" + evictions.get() + " size=" + cache.size() + "/" + CACHE_SIZE;
+    }
+
+    /**
+     * The expression as written
+     */
+    public String getExpression() {
+        return expression;
+    }
+
+    /**
+     * Canonical path as used by {@link JsonView}: "items[0].id", "$" for the root, "$[0]" for root array elements
+     */
+    public String canonical() {
+        return canonical;
+    }
+
+    /**
+     * Field names (String), indexes (Integer) and {@link #WILDCARD} from the root down
+     */
+    public List<Object> segments() {
+        return segments;
+    }
+
+    /**
+     * Whether the expression contains [*]
+     */
+    public boolean hasWildcard() {
+        return wildcard;
+    }
+
+    @Override
+    public String toString() {
+        return canonical;
+    }
+
+    private static List<Object> parse(String expression) {
+        String text = expression.trim();
+        int i = 0;
+        if (text.startsWith(ROOT)) {
+            i = text.startsWith("$.") ? 2 : 1;
+        }
+        int start = i;
+        List<Object> segments = new ArrayList<>();
+        StringBuilder name = new StringBuilder();
+        while (i < text.length()) {
+            char c = text.charAt(i);
+            if (c == '.') {
+                if (name.length() == 0 && (i == start || text.charAt(i - 1) != ']')) {
+                    throw new IllegalArgumentException("Empty field name in JSON path: " + expression);
+                }
+                if (name.length() > 0) {
+                    segments.add(name.toString());
+                    name.setLength(0);
+                }
+                i++;
+            } else if (c == '[') {
+                if (name.length() > 0) {
+                    segments.add(name.toString());
+                    name.setLength(0);
+                }
+                if (i + 1 < text.length() && (text.charAt(i + 1) == '\'' || text.charAt(i + 1) == '"')) {
+                    int close = text.indexOf(text.charAt(i + 1) + "]", i + 2);
+                    if (close < 0) {
+                        throw new IllegalArgumentException("Unclosed quoted name in JSON path: " + expression);
+                    }
+                    segments.add(text.substring(i + 2, close));
+                    i = close + 2;
+                    continue;
+                }
+                int end = text.indexOf(']', i);
+                if (end < 0) {
+                    throw new IllegalArgumentException("Unclosed '[' in JSON path: " + expression);
+                }
+                String inside = text.substring(i + 1, end).trim();
+                if (inside.equals("*")) {
+                    segments.add(WILDCARD);
+                } else {
+                    try {
+                        segments.add(Integer.parseInt(inside));
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("Invalid index '" + inside + "' in JSON path: " + expression);
+                    }
+                }
+                i = end + 1;
+            } else {
+                name.append(c);
+                i++;
+            }
+        }
+        if (name.length() > 0) {
+            segments.add(name.toString());
+        }
+        return segments;
+    }
+
+    private static String render(List<Object> segments) {
+        String path = ROOT;
+        for (Object segment : segments) {
+            if (segment instanceof String field) {
+                path = field(path, field);
+            } else {
+                path = path + (segment == WILDCARD ? "[*]" : "[" + segment + "]");
+            }
+        }
+        return path;
+    }
+
+    /**
+     * Canonical path of a field under a parent path; names with '.', '[' or ']' are quoted
+     */
+    static String field(String parent, String name) {
+        String segment = name.indexOf('.') >= 0 || name.indexOf('[') >= 0 || name.indexOf(']') >= 0
+                ? "['" + name + "']" : name;
+        if (ROOT.equals(parent)) {
+            return segment.startsWith("[") ? ROOT + segment : segment;
+        }
+        return segment.startsWith("[") ? parent + segment : parent + "." + segment;
+    }
+}
@@ -0,0 +1,329 @@
+package com.sdet.framework.api;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+import io.restassured.response.Response;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
+
+/**
+ * JsonView - read-only view of a JSON body built by streaming over it, without a document tree.
+ *
+ * One pass records whether the body is well-formed, every scalar value and array size that is not inside
+ * an array (e.g. "id", "meta.total", "items" size) and any explicitly requested path, including paths
+ * inside arrays ("items[3].id"). Memory therefore grows with the shape of the document, not with the
+ * number of array elements. A path that was not captured triggers one more pass whose results are kept.
+ * Views are cached per response, so the assertions of several steps share one parse; a view keeps only
+ * the buffered body bytes, so the cache entry goes away with the response.
+ *
+ * Paths are {@link JsonPathExpression}s, compiled once and cached process-wide: dot-separated field names
+ * with [n] array indexes ("items[0].id"); "$" is the root and elements of a root array are "$[0]", "$[0].id".
+ */
+public final class JsonView {
+
+    private static final String ROOT = "$";
+    private static final Map<Response, JsonView> views = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Supplier<InputStream> source;
+    private final Map<String, Object> values = new HashMap<>();
+    private final Map<String, Integer> arraySizes = new HashMap<>();
+    private final Set<String> objectPaths = new HashSet<>();
+    private final Set<String> scannedPaths = new HashSet<>();
+    private boolean scanned;
+    private String error;
+
+    private JsonView(Supplier<InputStream> source) {
+        this.source = source;
+    }
+
+    /**
+     * The view of a response body, parsed on first use and cached for the life of the response
+     */
+    public static JsonView of(Response response) {
+        return views.computeIfAbsent(response, r -> {
+            byte[] body = r.asByteArray();
+            return new JsonView(() -> new ByteArrayInputStream(body));
+        });
+    }
+
+    /**
+     * An uncached view over a stream source; the source is opened once per pass
+     */
+    public static JsonView of(Supplier<InputStream> source) {
+        return new JsonView(source);
+    }
+
+    /**
+     * Whether the body is well-formed JSON
+     */
+    public synchronized boolean isValid() {
+        ensureScanned(Set.of());
+        return error == null;
+    }
+
+    /**
+     * Parse error of a malformed body, or null
+     */
+    public synchronized String getError() {
+        ensureScanned(Set.of());
+        return error;
+    }
+
+    /**
+     * Whether a path exists (a null value counts as present)
+     */
+    public synchronized boolean has(String expression) {
+        String path = canonical(expression);
+        ensureScanned(Set.of(path));
+        return values.containsKey(path) || arraySizes.containsKey(path) || objectPaths.contains(path);
+    }
+
+    /**
+     * Scalar value at a path as a string, or null when absent or JSON null
+     */
+    public synchronized String getString(String expression) {
+        String path = canonical(expression);
+        ensureScanned(Set.of(path));
+        Object value = values.get(path);
+        return value == null ? null : value.toString();
+    }
+
+    /**
+     * Number of elements of the array at a path, or -1 when the path is not an array
+     */
+    public synchronized int getArraySize(String expression) {
+        String path = canonical(expression);
+        ensureScanned(Set.of(path));
+        return arraySizes.getOrDefault(path, -1);
+    }
+
+    /**
+     * Capture several paths in a single pass (no-op for paths already captured)
+     */
+    public synchronized JsonView prefetch(Set<String> expressions) {
+        ensureScanned(expressions);
+        return this;
+    }
+
+    /**
+     * Scalar values of several paths, captured in a single traversal; keyed by the expressions as given
+     */
+    public synchronized Map<String, String> extract(String... expressions) {
+        prefetch(Set.of(expressions));
+        Map<String, String> extracted = new LinkedHashMap<>();
+        for (String expression : expressions) {
+            Object value = values.get(canonical(expression));
+            extracted.put(expression, value == null ? null : value.toString());
+        }
+        return extracted;
+    }
+
+    /**
+     * Check value types in one pass. Schema keys are paths where [*] stands for every element of an
+     * array; values are string, number, boolean, object, array or null, with a trailing '?' when the
+     * path is optional. Returns one message per violation.
+     */
+    public synchronized Set<String> validate(Map<String, String> typesByPath) {
+        return validate(Set.of(), typesByPath);
+    }
+
+    /**
+     * Check value types as {@link #validate(Map)} does and capture the given paths in the same pass
+     */
+    public synchronized Set<String> validate(Set<String> expressions, Map<String, String> typesByPath) {
+        Map<String, String> schema = new LinkedHashMap<>();
+        typesByPath.forEach((expression, type) -> schema.put(JsonPathExpression.compile(expression).canonical(), type));
+        Set<String> missing = uncaptured(expressions);
+        Scan scan = new Scan(missing, schema);
+        runPass(scan);
+        scannedPaths.addAll(missing);
+        scanned = true;
+        if (error != null) {
+            return Set.of("Body is not valid JSON: " + error);
+        }
+        Set<String> violations = new LinkedHashSet<>(scan.violations);
+        schema.forEach((path, type) -> {
+            if (type.endsWith("?")) {
+                return;
+            }
+            int seen = scan.occurrences.getOrDefault(path, 0);
+            int star = path.lastIndexOf("[*]");
+            int expected = star < 0 ? 1 : scan.elementsVisited.getOrDefault(path.substring(0, star + 3), 0);
+            if (seen < expected) {
+                violations.add(path + " is missing" + (star < 0 ? "" : " in " + (expected - seen) + " of " + expected + " elements"));
+            }
+        });
+        return violations;
+    }
+
+    private static String canonical(String expression) {
+        JsonPathExpression compiled = JsonPathExpression.compile(expression);
+        if (compiled.hasWildcard()) {
+            throw new IllegalArgumentException("[*] is only supported in schemas: " + expression);
+        }
+        return compiled.canonical();
+    }
+
+    private void ensureScanned(Set<String> expressions) {
+        Set<String> missing = uncaptured(expressions);
+        if (scanned && missing.isEmpty()) {
+            return;
+        }
+        runPass(new Scan(missing, Map.of()));
+        scannedPaths.addAll(missing);
+        scanned = true;
+    }
+
+    /**
+     * Canonical forms of the expressions no pass has looked for yet
+     */
+    private Set<String> uncaptured(Set<String> expressions) {
+        Set<String> missing = new HashSet<>();
+        for (String expression : expressions) {
+            String path = canonical(expression);
+            if (!scannedPaths.contains(path) && !values.containsKey(path) && !arraySizes.containsKey(path)
+                    && !objectPaths.contains(path)) {
+                missing.add(path);
+            }
+        }
+        return missing;
+    }
+
+    private void runPass(Scan scan) {
+        try (InputStream in = source.get();
+             Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8);
+             JsonReader json = new JsonReader(reader)) {
+            scan.value(json, ROOT, ROOT, false);
+            if (json.peek() != JsonToken.END_DOCUMENT) {
+                throw new MalformedJsonException("Unexpected content after the root value");
+            }
+        } catch (MalformedJsonException | IllegalStateException | EOFException e) {
+            error = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read JSON body", e);
+        }
+    }
+
+    /**
+     * One streaming pass; captures values into the view and checks the schema, if any
+     */
+    private final class Scan {
+        private final Set<String> requested;
+        private final Map<String, String> schema;
+        private final Map<String, Integer> occurrences = new HashMap<>();
+        private final Map<String, Integer> elementsVisited = new HashMap<>();
+        private final Set<String> violations = new LinkedHashSet<>();
+
+        Scan(Set<String> requested, Map<String, String> schema) {
+            this.requested = requested;
+            this.schema = schema;
+        }
+
+        void value(JsonReader json, String path, String shape, boolean inArray) throws IOException {
+            JsonToken token = json.peek();
+            checkType(path, shape, token);
+            boolean capture = !inArray || requested.contains(path);
+            switch (token) {
+                case BEGIN_OBJECT -> {
+                    if (capture) {
+                        objectPaths.add(path);
+                    }
+                    json.beginObject();
+                    while (json.hasNext()) {
+                        String name = json.nextName();
+                        value(json, JsonPathExpression.field(path, name), JsonPathExpression.field(shape, name), inArray);
+                    }
+                    json.endObject();
+                }
+                case BEGIN_ARRAY -> {
+                    json.beginArray();
+                    int index = 0;
+                    String elementShape = shape + "[*]";
+                    while (json.hasNext()) {
+                        String elementPath = path + "[" + index + "]";
+                        if (schema.isEmpty() && !isRequestedPrefix(elementPath)) {
+                            json.skipValue();
+                        } else {
+                            value(json, elementPath, elementShape, true);
+                        }
+                        elementsVisited.merge(elementShape, 1, Integer::sum);
+                        index++;
+                    }
+                    json.endArray();
+                    if (capture) {
+                        arraySizes.put(path, index);
+                    }
+                }
+                case STRING -> store(path, capture, json.nextString());
+                case NUMBER -> store(path, capture, new BigDecimal(json.nextString()));
+                case BOOLEAN -> store(path, capture, json.nextBoolean());
+                case NULL -> {
+                    json.nextNull();
+                    store(path, capture, null);
+                }
+                default -> throw new MalformedJsonException("Unexpected token " + token + " at " + path);
+            }
+        }
+
+        private boolean isRequestedPrefix(String elementPath) {
+            for (String path : requested) {
+                if (path.startsWith(elementPath) && (path.length() == elementPath.length()
+                        || path.charAt(elementPath.length()) == '.' || path.charAt(elementPath.length()) == '[')) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void store(String path, boolean capture, Object value) {
+            if (capture) {
+                values.put(path, value);
+            }
+        }
+
+        private void checkType(String path, String shape, JsonToken token) {
+            String expected = schema.get(shape);
+            if (expected == null) {
+                return;
+            }
+            occurrences.merge(shape, 1, Integer::sum);
+            String type = expected.endsWith("?") ? expected.substring(0, expected.length() - 1) : expected;
+            String actual = switch (token) {
+                case BEGIN_OBJECT -> "object";
+                case BEGIN_ARRAY -> "array";
+                case STRING -> "string";
+                case NUMBER -> "number";
+                case BOOLEAN -> "boolean";
+                default -> "null";
+            };
+            if (!type.equals(actual) && !(expected.endsWith("?") && "null".equals(actual)) && violations.size() < 20) {
+                violations.add(path + " should be " + type + " but was " + actual);
+            }
+        }
+    }
+
+    @Override
+    public synchronized String toString() {
+        Map<String, Object> captured = new LinkedHashMap<>(values);
+        arraySizes.forEach((path, size) -> captured.put(path + ".size()", size));
+        return "JsonView" + captured;
+    }
+}
@@ -0,0 +1,131 @@
+package com.sdet.framework.api;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LoadReport - latency percentiles, throughput and error rate of a {@link LoadRunner} run
+ */
+public class LoadReport {
+
+    private final String name;
+    private final Histogram latency;
+    private final Map<String, Histogram> callLatency;
+    private final long requests;
+    private final long errors;
+    private final long elapsedNanos;
+
+    LoadReport(String name, Histogram latency, Map<String, Histogram> callLatency,
+               long requests, long errors, long elapsedNanos) {
+        this.name = name;
+        this.latency = latency;
+        this.callLatency = callLatency;
+        this.requests = requests;
+        this.errors = errors;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getRequests() {
+        return requests;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public double getErrorRate() {
+        return requests == 0 ? 0.0 : (double) errors / requests;
+    }
+
+    /**
+     * Completed requests per second over the whole run
+     */
+    public double getThroughput() {
+        return elapsedNanos == 0 ? 0.0 : requests / (elapsedNanos / 1e9);
+    }
+
+    /**
+     * Latency at a percentile (0-100) in milliseconds
+     */
+    public double getPercentileMillis(double percentile) {
+        return toMillis(latency.getValueAtPercentile(percentile));
+    }
+
+    public double getMaxMillis() {
+        return toMillis(latency.getMaxValue());
+    }
+
+    /**
+     * Full latency histogram in nanoseconds, for export or merging
+     */
+    public Histogram getLatencyHistogram() {
+        return latency;
+    }
+
+    /**
+     * Per-call latency histograms in nanoseconds, keyed by "METHOD endpoint"
+     */
+    public Map<String, Histogram> getCallLatencyHistograms() {
+        return callLatency;
+    }
+
+    /**
+     * Fail with an AssertionError (failing the TestNG test) listing every breached objective
+     */
+    public LoadReport assertSlo(LoadSlo slo) {
+        List<String> breaches = new ArrayList<>();
+        slo.getLatencyLimits().forEach((percentile, limit) -> {
+            double actual = getPercentileMillis(percentile);
+            if (actual > limit.toNanos() / 1e6) {
+                breaches.add(String.format("p%s latency %.1f ms > %d ms", formatPercentile(percentile), actual, limit.toMillis()));
+            }
+        });
+        if (slo.getMaxErrorRate() != null && getErrorRate() > slo.getMaxErrorRate()) {
+            breaches.add(String.format("error rate %.2f%% > %.2f%%", getErrorRate() * 100, slo.getMaxErrorRate() * 100));
+        }
+        if (slo.getMinThroughput() != null && getThroughput() < slo.getMinThroughput()) {
+            breaches.add(String.format("throughput %.1f rps < %.1f rps", getThroughput(), slo.getMinThroughput()));
+        }
+        if (!breaches.isEmpty()) {
+            throw new AssertionError("Load scenario '" + name + "' breached its SLO: " + String.join("; ", breaches)
+                    + System.lineSeparator() + summary());
+        }
+        return this;
+    }
+
+    /**
+     * One-line summary followed by one line per call
+     */
+    public String summary() {
+        StringBuilder summary = new StringBuilder(String.format(
+                "Load scenario '%s': requests=%d errors=%d (%.2f%%) throughput=%.1f rps p50=%.1f ms p90=%.1f ms p99=%.1f ms max=%.1f ms",
+                name, requests, errors, getErrorRate() * 100, getThroughput(),
+                getPercentileMillis(50), getPercentileMillis(90), getPercentileMillis(99), getMaxMillis()));
+        callLatency.forEach((call, histogram) -> summary.append(String.format(
+                "%n  %s: n=%d p50=%.1f ms p90=%.1f ms p99=%.1f ms max=%.1f ms", call, histogram.getTotalCount(),
+                toMillis(histogram.getValueAtPercentile(50)), toMillis(histogram.getValueAtPercentile(90)),
+                toMillis(histogram.getValueAtPercentile(99)), toMillis(histogram.getMaxValue()))));
+        return summary.toString();
+    }
+
+    @Override
+    public String toString() {
+        return summary();
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    private static String formatPercentile(double percentile) {
+        return percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile);
+    }
+}
@@ -0,0 +1,216 @@
+package com.sdet.framework.api;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * LoadRunner - replays a named {@link ApiCall} sequence against an {@link APIClient} at a fixed
+ * concurrency, optionally paced to a target request rate, for a fixed duration or iteration count.
+ *
+ * Latencies are recorded into HdrHistograms. When a target rate is set, latency is measured from each
+ * request's scheduled start so a slow server can't hide queueing delay (coordinated omission).
+ * Responses with status 400 or above count as errors. Warm-up passes are not recorded.
+ *
+ * <pre>
+ * LoadReport report = LoadRunner.scenario("user-reads", List.of(ApiCall.get("/users"), ApiCall.get("/users/1")))
+ *         .concurrency(8)
+ *         .targetRps(200)
+ *         .duration(Duration.ofSeconds(10))
+ *         .warmupIterations(100)
+ *         .run(apiClient);
+ * report.assertSlo(LoadSlo.create().p99Below(Duration.ofMillis(250)).maxErrorRate(0.01));
+ * </pre>
+ */
+public class LoadRunner {
+
+    private static final Logger logger = LogManager.getLogger(LoadRunner.class);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final String name;
+    private final List<ApiCall> sequence;
+    private int concurrency = 1;
+    private double targetRps;
+    private Duration duration;
+    private long iterations;
+    private long warmupIterations;
+
+    private LoadRunner(String name, List<ApiCall> sequence) {
+        this.name = name;
+        this.sequence = List.copyOf(sequence);
+    }
+
+    /**
+     * Start describing a load run for a named call sequence
+     */
+    public static LoadRunner scenario(String name, List<ApiCall> sequence) {
+        if (sequence.isEmpty()) {
+            throw new IllegalArgumentException("Load scenario '" + name + "' has no calls");
+        }
+        return new LoadRunner(name, sequence);
+    }
+
+    /**
+     * Number of virtual users replaying the sequence in parallel
+     */
+    public LoadRunner concurrency(int virtualUsers) {
+        this.concurrency = Math.max(1, virtualUsers);
+        return this;
+    }
+
+    /**
+     * Pace requests to this rate across all virtual users (0 = as fast as possible)
+     */
+    public LoadRunner targetRps(double requestsPerSecond) {
+        this.targetRps = requestsPerSecond;
+        return this;
+    }
+
+    /**
+     * Stop after this much time
+     */
+    public LoadRunner duration(Duration runFor) {
+        this.duration = runFor;
+        return this;
+    }
+
+    /**
+     * Stop after this many passes through the sequence (across all virtual users)
+     */
+    public LoadRunner iterations(long passes) {
+        this.iterations = passes;
+        return this;
+    }
+
+    /**
+     * Replay the sequence this many times (spread over all virtual users) before measuring,
+     * so JIT compilation, connection setup and client initialisation don't skew the results
+     */
+    public LoadRunner warmupIterations(long passes) {
+        this.warmupIterations = passes;
+        return this;
+    }
+
+    /**
+     * Run the scenario and block until it finishes
+     */
+    public LoadReport run(APIClient client) {
+        if (duration == null && iterations <= 0) {
+            throw new IllegalStateException("Load scenario '" + name + "' needs a duration or an iteration count");
+        }
+        if (warmupIterations > 0) {
+            warmUp(client);
+        }
+        Recorder overall = new Recorder(SIGNIFICANT_DIGITS);
+        Map<String, Recorder> perCall = new ConcurrentHashMap<>();
+        AtomicLong requests = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        AtomicLong remainingPasses = new AtomicLong(iterations > 0 ? iterations : Long.MAX_VALUE);
+        long intervalNanos = targetRps > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / targetRps) : 0;
+
+        long start = System.nanoTime();
+        long deadline = duration == null ? Long.MAX_VALUE : start + duration.toNanos();
+        AtomicLong nextSlot = new AtomicLong(start);
+
+        logger.info("Load scenario '" + name + "' starting: concurrency=" + concurrency
+                + (targetRps > 0 ? " targetRps=" + targetRps : "")
+                + (duration != null ? " duration=" + duration : "")
+                + (iterations > 0 ? " iterations=" + iterations : ""));
+
+        try (ExecutorService users = newUserPool()) {
+            List<Future<?>> running = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                running.add(users.submit(() -> {
+                    while (System.nanoTime() < deadline && remainingPasses.getAndDecrement() > 0) {
+                        for (ApiCall call : sequence) {
+                            long scheduled = System.nanoTime();
+                            if (intervalNanos > 0) {
+                                scheduled = nextSlot.getAndAdd(intervalNanos);
+                                long wait = scheduled - System.nanoTime();
+                                if (wait > 0) {
+                                    LockSupport.parkNanos(wait);
+                                }
+                            }
+                            if (System.nanoTime() >= deadline) {
+                                return;
+                            }
+                            boolean failed;
+                            try {
+                                failed = client.execute(call).getStatusCode() >= 400;
+                            } catch (RuntimeException e) {
+                                failed = true;
+                            }
+                            long latency = System.nanoTime() - scheduled;
+                            overall.recordValue(latency);
+                            perCall.computeIfAbsent(call.toString(), key -> new Recorder(SIGNIFICANT_DIGITS))
+                                    .recordValue(latency);
+                            requests.incrementAndGet();
+                            if (failed) {
+                                errors.incrementAndGet();
+                            }
+                        }
+                    }
+                }));
+            }
+            for (Future<?> user : running) {
+                user.get();
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException("Load scenario '" + name + "' aborted", e);
+        }
+
+        long elapsedNanos = System.nanoTime() - start;
+        Map<String, Histogram> callHistograms = new LinkedHashMap<>();
+        for (ApiCall call : sequence) {
+            Recorder recorder = perCall.get(call.toString());
+            if (recorder != null && !callHistograms.containsKey(call.toString())) {
+                callHistograms.put(call.toString(), recorder.getIntervalHistogram());
+            }
+        }
+        LoadReport report = new LoadReport(name, overall.getIntervalHistogram(), callHistograms,
+                requests.get(), errors.get(), elapsedNanos);
+        logger.info(report.summary());
+        return report;
+    }
+
+    private void warmUp(APIClient client) {
+        AtomicLong remaining = new AtomicLong(warmupIterations);
+        try (ExecutorService users = newUserPool()) {
+            for (int i = 0; i < concurrency; i++) {
+                users.submit(() -> {
+                    while (remaining.getAndDecrement() > 0) {
+                        for (ApiCall call : sequence) {
+                            try {
+                                client.execute(call);
+                            } catch (RuntimeException e) {
+                                logger.debug("Warm-up call failed: {} - {}", call, e.getMessage());
+                            }
+                        }
+                    }
+                });
+            }
+        }
+        logger.info("Load scenario '" + name + "' warmed up with " + warmupIterations + " iteration(s)");
+    }
+
+    /**
+     * One platform thread per virtual user; requests pin their thread for the whole call (see {@link APIClient})
+     */
+    private ExecutorService newUserPool() {
+        return Executors.newFixedThreadPool(concurrency, Thread.ofPlatform().name("load-" + name + "-", 1).daemon().factory());
+    }
+}
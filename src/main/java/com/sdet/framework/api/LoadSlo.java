@@ -0,0 +1,75 @@
+package com.sdet.framework.api;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * LoadSlo - service level objectives checked by {@link LoadReport#assertSlo(LoadSlo)}
+ */
+public class LoadSlo {
+
+    private final Map<Double, Duration> latencyLimits = new TreeMap<>();
+    private Double maxErrorRate;
+    private Double minThroughput;
+
+    private LoadSlo() {
+    }
+
+    public static LoadSlo create() {
+        return new LoadSlo();
+    }
+
+    public LoadSlo p50Below(Duration limit) {
+        return percentileBelow(50, limit);
+    }
+
+    public LoadSlo p90Below(Duration limit) {
+        return percentileBelow(90, limit);
+    }
+
+    public LoadSlo p99Below(Duration limit) {
+        return percentileBelow(99, limit);
+    }
+
+    public LoadSlo maxBelow(Duration limit) {
+        return percentileBelow(100, limit);
+    }
+
+    /**
+     * Latency at the given percentile (0-100) must not exceed the limit
+     */
+    public LoadSlo percentileBelow(double percentile, Duration limit) {
+        latencyLimits.put(percentile, limit);
+        return this;
+    }
+
+    /**
+     * Fraction of failed requests (0.0 - 1.0) must not exceed this value
+     */
+    public LoadSlo maxErrorRate(double rate) {
+        this.maxErrorRate = rate;
+        return this;
+    }
+
+    /**
+     * Completed requests per second must be at least this value
+     */
+    public LoadSlo minThroughput(double requestsPerSecond) {
+        this.minThroughput = requestsPerSecond;
+        return this;
+    }
+
+    Map<Double, Duration> getLatencyLimits() {
+        return Collections.unmodifiableMap(latencyLimits);
+    }
+
+    Double getMaxErrorRate() {
+        return maxErrorRate;
+    }
+
+    Double getMinThroughput() {
+        return minThroughput;
+    }
+}
@@ -0,0 +1,67 @@
+package com.sdet.framework.api;
+
+import com.sdet.framework.utils.ConfigReader;
+import io.restassured.response.Response;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * LoginCredentialProvider - fetches tokens by posting a principal's username and password to a login
+ * endpoint and reading the token and its lifetime from the JSON response.
+ *
+ * Credentials are not committed: they come from -Dapi.auth.{principal}.username / .password, or from the
+ * environment as API_AUTH_{PRINCIPAL}_USERNAME / _PASSWORD (e.g. CI secrets).
+ *
+ * Configuration (config.properties):
+ * api.auth.login.endpoint      - login path on the API base URL (default: /auth/login)
+ * api.auth.token.field         - JSON path of the token in the response (default: token)
+ * api.auth.expires.field       - JSON path of the lifetime in seconds (default: expires_in)
+ * api.auth.token.ttl.seconds   - lifetime to assume when the response has none (default: 3600)
+ * api.auth.{principal}.username / api.auth.{principal}.password - credentials per user or role (default: empty)
+ */
+public class LoginCredentialProvider implements CredentialProvider {
+
+    private final APIClient loginClient;
+
+    /**
+     * Provider that logs in against the given API base URL
+     */
+    public LoginCredentialProvider(String baseUrl) {
+        this.loginClient = new APIClient(baseUrl).useResponseCache(null);
+        this.loginClient.addHeader("Content-Type", "application/json");
+    }
+
+    @Override
+    public AccessToken fetch(String principal) {
+        String username = ConfigReader.getSecret("api.auth." + principal + ".username");
+        String password = ConfigReader.getSecret("api.auth." + principal + ".password");
+        if (username == null || password == null) {
+            throw new IllegalStateException("No credentials configured for principal '" + principal
+                    + "' (-Dapi.auth." + principal + ".username/.password or " + ConfigReader.environmentName("api.auth." + principal)
+                    + "_USERNAME/_PASSWORD)");
+        }
+        Response response = loginClient.execute(ApiCall.post(ConfigReader.getProperty("api.auth.login.endpoint", "/auth/login"),
+                Map.of("username", username, "password", password)));
+        if (response.getStatusCode() >= 300) {
+            throw new IllegalStateException("Login failed for principal '" + principal + "' with status " + response.getStatusCode());
+        }
+        JsonView json = JsonView.of(response);
+        String tokenField = ConfigReader.getProperty("api.auth.token.field", "token");
+        String expiresField = ConfigReader.getProperty("api.auth.expires.field", "expires_in");
+        Map<String, String> fields = json.extract(tokenField, expiresField);
+        String token = fields.get(tokenField);
+        if (token == null) {
+            throw new IllegalStateException("Login response for principal '" + principal + "' has no " + tokenField);
+        }
+        String expiresIn = fields.get(expiresField);
+        long lifetimeSeconds = expiresIn != null ? (long) Double.parseDouble(expiresIn)
+                : Long.parseLong(ConfigReader.getProperty("api.auth.token.ttl.seconds", "3600"));
+        return AccessToken.validFor(token, Duration.ofSeconds(lifetimeSeconds));
+    }
+
+    @Override
+    public String name() {
+        return getClass().getName() + "@" + loginClient.getBaseUrl();
+    }
+}
@@ -0,0 +1,384 @@
+package com.sdet.framework.api;
+
+import com.google.gson.Gson;
+import com.sdet.framework.utils.ConfigReader;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * ResponseCache - record-and-replay cache for {@link APIClient} responses, applied as a RestAssured filter.
+ *
+ * Entries are keyed by method, full URL (including query parameters), normalized request headers
+ * (lower-cased names, sorted, volatile headers ignored), a SHA-256 hash of the request body and, for clients
+ * with credentials, the principal (see {@link #forPrincipal(String)}), and are stored as one gzipped JSON file per entry; 5xx responses are not recorded. In replay mode a fresh entry is returned without opening a
+ * connection; a miss or an expired entry goes to the network and is re-recorded. The store keeps at most
+ * api.cache.max.entries entries and evicts the least recently used (file modification time is the
+ * last-use time, so the order survives between runs).
+ *
+ * Configuration (config.properties):
+ * api.cache.mode           - off | record (always call, store the response) | replay (default: off)
+ * api.cache.dir            - store directory (default: src/test/resources/api-cache)
+ * api.cache.ttl.seconds    - entry lifetime, 0 = never expires (default: 86400)
+ * api.cache.max.entries    - store size before LRU eviction (default: 500)
+ * api.cache.methods        - methods that are cached (default: GET)
+ * api.cache.ignore.headers - request headers left out of the key
+ *                            (default: user-agent,accept-encoding,connection,host,content-length)
+ */
+public class ResponseCache implements Filter {
+
+    private static final Logger logger = LogManager.getLogger(ResponseCache.class);
+    private static final Gson gson = new Gson();
+    private static final String ENTRY_SUFFIX = ".json.gz";
+    private static final String DEFAULT_IGNORED_HEADERS = "user-agent,accept-encoding,connection,host,content-length";
+    private static volatile ResponseCache shared;
+
+    public enum Mode { OFF, RECORD, REPLAY }
+
+    private final Path directory;
+    private final Mode mode;
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final Set<String> methods;
+    private final Set<String> ignoredHeaders;
+    private final LinkedHashMap<String, Path> index = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong expired = new AtomicLong();
+    private final AtomicLong recorded = new AtomicLong();
+    private final AtomicLong evicted = new AtomicLong();
+
+    /**
+     * Open a store with the default methods (GET) and ignored headers
+     */
+    public ResponseCache(Path directory, Mode mode, long ttlSeconds, int maxEntries) {
+        this(directory, mode, ttlSeconds, maxEntries, "GET", DEFAULT_IGNORED_HEADERS);
+    }
+
+    private ResponseCache(Path directory, Mode mode, long ttlSeconds, int maxEntries,
+                          String methods, String ignoredHeaders) {
+        this.directory = directory;
+        this.mode = mode;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.maxEntries = Math.max(1, maxEntries);
+        this.methods = csv(methods).stream().map(m -> m.toUpperCase(Locale.ROOT)).collect(Collectors.toSet());
+        this.ignoredHeaders = csv(ignoredHeaders).stream().map(h -> h.toLowerCase(Locale.ROOT)).collect(Collectors.toSet());
+        loadIndex();
+    }
+
+    /**
+     * The cache configured in config.properties, or null when api.cache.mode is off
+     */
+    public static ResponseCache fromConfig() {
+        Mode mode = Mode.valueOf(ConfigReader.getProperty("api.cache.mode", "off").trim().toUpperCase(Locale.ROOT));
+        if (mode == Mode.OFF) {
+            return null;
+        }
+        ResponseCache current = shared;
+        if (current == null) {
+            synchronized (ResponseCache.class) {
+                if (shared == null) {
+                    shared = new ResponseCache(
+                            Paths.get(ConfigReader.getProperty("api.cache.dir", "src/test/resources/api-cache")),
+                            mode,
+                            Long.parseLong(ConfigReader.getProperty("api.cache.ttl.seconds", "86400")),
+                            Integer.parseInt(ConfigReader.getProperty("api.cache.max.entries", "500")),
+                            ConfigReader.getProperty("api.cache.methods", "GET"),
+                            ConfigReader.getProperty("api.cache.ignore.headers", DEFAULT_IGNORED_HEADERS));
+                }
+                current = shared;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Statistics of the configured cache, or null when it was never used
+     */
+    public static String getSharedStats() {
+        ResponseCache current = shared;
+        return current == null ? null : current.getStats();
+    }
+
+    /**
+     * Zero the configured cache's counters (called when a suite starts)
+     */
+    public static void resetSharedStats() {
+        ResponseCache current = shared;
+        if (current != null) {
+            current.resetStats();
+        }
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec, FilterContext context) {
+        return filter(requestSpec, responseSpec, context, null);
+    }
+
+    /**
+     * This cache as a filter for requests authenticated as the principal (e.g. provider name and user).
+     * It runs ahead of the credentials filter, so the Authorization header is not in the key yet and a
+     * replayed response needs no token; the principal keeps users apart instead.
+     */
+    public Filter forPrincipal(String principal) {
+        return (requestSpec, responseSpec, context) -> filter(requestSpec, responseSpec, context, principal);
+    }
+
+    private Response filter(FilterableRequestSpecification requestSpec,
+                            FilterableResponseSpecification responseSpec, FilterContext context, String principal) {
+        String method = requestSpec.getMethod().toUpperCase(Locale.ROOT);
+        if (mode == Mode.OFF || !methods.contains(method)) {
+            return context.next(requestSpec, responseSpec);
+        }
+        String key = keyFor(principal, method, requestSpec.getURI(), requestSpec.getHeaders(), requestSpec.getBody());
+        if (mode == Mode.REPLAY) {
+            Entry entry = read(key);
+            if (entry != null) {
+                hits.incrementAndGet();
+                logger.debug("Replayed {} {} from cache", method, requestSpec.getURI());
+                return entry.toResponse();
+            }
+            misses.incrementAndGet();
+        }
+        Response response = context.next(requestSpec, responseSpec);
+        if (response.getStatusCode() < 500) {
+            write(key, Entry.of(method, requestSpec.getURI(), response));
+        }
+        return response;
+    }
+
+    /**
+     * Hits, misses, expired entries, recordings and evictions since the last reset
+     */
+    public String getStats() {
+        long lookups = hits.get() + misses.get();
+        return "ResponseCache mode=" + mode.name().toLowerCase(Locale.ROOT) + " hits=" + hits.get()
+                + " misses=" + misses.get() + " expired=" + expired.get()
+                + " hitRate=" + (lookups == 0 ? "n/a" : String.format("%.1f%%", 100.0 * hits.get() / lookups))
+                + " recorded=" + recorded.get() + " evicted=" + evicted.get() + " entries=" + size();
+    }
+
+    /**
+     * Zero the counters
+     */
+    public void resetStats() {
+        hits.set(0);
+        misses.set(0);
+        expired.set(0);
+        recorded.set(0);
+        evicted.set(0);
+    }
+
+    /**
+     * Number of stored entries
+     */
+    public synchronized int size() {
+        return index.size();
+    }
+
+    private String keyFor(String principal, String method, String uri, Headers headers, Object body) {
+        Map<String, List<String>> normalized = new TreeMap<>();
+        for (Header header : headers) {
+            String name = header.getName().toLowerCase(Locale.ROOT);
+            if (!ignoredHeaders.contains(name)) {
+                normalized.computeIfAbsent(name, n -> new ArrayList<>()).add(header.getValue().trim());
+            }
+        }
+        normalized.values().forEach(values -> values.sort(Comparator.naturalOrder()));
+        byte[] bodyBytes = body == null ? new byte[0]
+                : body instanceof byte[] bytes ? bytes : String.valueOf(body).getBytes(StandardCharsets.UTF_8);
+        MessageDigest digest = sha256();
+        String bodyHash = HexFormat.of().formatHex(digest.digest(bodyBytes));
+        digest.reset();
+        return HexFormat.of().formatHex(digest.digest(((principal == null ? "" : principal) + '\n' + method + '\n' + uri + '\n' + normalized + '\n' + bodyHash)
+                .getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private Entry read(String key) {
+        Path file;
+        synchronized (this) {
+            file = index.get(key);
+        }
+        if (file == null) {
+            return null;
+        }
+        try (Reader reader = new InputStreamReader(new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8)) {
+            Entry entry = gson.fromJson(reader, Entry.class);
+            if (ttlMillis > 0 && System.currentTimeMillis() - entry.recordedAt > ttlMillis) {
+                expired.incrementAndGet();
+                return null;
+            }
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            return entry;
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Discarding unreadable cache entry " + file.getFileName() + ": " + e.getMessage());
+            remove(key);
+            return null;
+        }
+    }
+
+    private void write(String key, Entry entry) {
+        Path file = directory.resolve(key + ENTRY_SUFFIX);
+        try {
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, key, ".tmp");
+            try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(Files.newOutputStream(temp)), StandardCharsets.UTF_8)) {
+                gson.toJson(entry, writer);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            recorded.incrementAndGet();
+        } catch (IOException e) {
+            logger.warn("Failed to record cache entry for " + entry.url + ": " + e.getMessage());
+            return;
+        }
+        List<String> overflow = new ArrayList<>();
+        synchronized (this) {
+            index.put(key, file);
+            var eldest = index.keySet().iterator();
+            while (index.size() - overflow.size() > maxEntries && eldest.hasNext()) {
+                overflow.add(eldest.next());
+            }
+        }
+        overflow.forEach(this::remove);
+        evicted.addAndGet(overflow.size());
+    }
+
+    private void remove(String key) {
+        Path file;
+        synchronized (this) {
+            file = index.remove(key);
+        }
+        if (file != null) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                logger.warn("Failed to delete cache entry " + file.getFileName() + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Rebuild the LRU order from the entry files, least recently used first
+     */
+    private void loadIndex() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(file -> file.getFileName().toString().endsWith(ENTRY_SUFFIX))
+                    .sorted(Comparator.comparing(ResponseCache::lastModified))
+                    .forEach(file -> {
+                        String name = file.getFileName().toString();
+                        index.put(name.substring(0, name.length() - ENTRY_SUFFIX.length()), file);
+                    });
+            logger.info("Response cache opened at " + directory + " with " + index.size() + " entries (mode "
+                    + mode.name().toLowerCase(Locale.ROOT) + ")");
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to open response cache at " + directory, e);
+        }
+    }
+
+    private static FileTime lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private static List<String> csv(String value) {
+        return Arrays.stream(value.split(",")).map(String::trim).filter(v -> !v.isEmpty()).toList();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Recorded response, serialized to the store
+     */
+    private static final class Entry {
+        private String method;
+        private String url;
+        private int status;
+        private String statusLine;
+        private Map<String, List<String>> headers;
+        private String body;
+        private long recordedAt;
+
+        static Entry of(String method, String url, Response response) {
+            Entry entry = new Entry();
+            entry.method = method;
+            entry.url = url;
+            entry.status = response.getStatusCode();
+            entry.statusLine = response.getStatusLine();
+            entry.headers = new LinkedHashMap<>();
+            for (Header header : response.getHeaders()) {
+                entry.headers.computeIfAbsent(header.getName(), n -> new ArrayList<>()).add(header.getValue());
+            }
+            entry.body = Base64.getEncoder().encodeToString(response.asByteArray());
+            entry.recordedAt = System.currentTimeMillis();
+            return entry;
+        }
+
+        Response toResponse() {
+            List<Header> replayed = new ArrayList<>();
+            headers.forEach((name, values) -> values.forEach(value -> replayed.add(new Header(name, value))));
+            ResponseBuilder builder = new ResponseBuilder()
+                    .setStatusCode(status)
+                    .setStatusLine(statusLine)
+                    .setHeaders(new Headers(replayed))
+                    .setBody(Base64.getDecoder().decode(body));
+            List<String> contentType = headers.entrySet().stream()
+                    .filter(header -> header.getKey().equalsIgnoreCase("Content-Type"))
+                    .map(Map.Entry::getValue).findFirst().orElse(List.of());
+            if (!contentType.isEmpty()) {
+                builder.setContentType(contentType.get(0));
+            }
+            return builder.build();
+        }
+    }
+}
@@ -0,0 +1,365 @@
+package com.sdet.framework.api;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.reflect.TypeToken;
+import com.sdet.framework.utils.ConfigReader;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * StubServer - in-JVM HTTP server that serves canned API responses on the loopback interface.
+ *
+ * Built on the JDK's NIO-based HttpServer, so it starts in milliseconds. Exchanges run on a cached pool of
+ * daemon platform threads, which keeps the server responsive while in-JVM clients hold their threads. Routes are read from every
+ * *.json file in the routes directory; each file holds a JSON list of routes and the first route
+ * matching the method and path wins. Unmatched requests get a 404.
+ *
+ * Route fields:
+ * method      - HTTP method, or * for any (default: *)
+ * path        - path template; {name} matches one segment, * matches the rest
+ * status      - response status (default: 200)
+ * headers     - extra response headers
+ * body        - JSON response body (or bodyFile, relative to the routes directory)
+ * echoRequest - merge the request's JSON object fields into the response body
+ * latencyMs   - delay before responding, plus up to jitterMs of random extra delay
+ * fault       - "drop" closes the connection without a response, "truncate" sends half the body
+ * faultRate   - fraction of matching requests that get the fault (default: 1.0)
+ *
+ * Configuration (config.properties):
+ * api.stub.enabled    - point APIClient.configuredBaseUrl() at the shared stub server (default: false)
+ * api.stub.routes.dir - directory of route files (default: the "stubs" directory on the classpath)
+ * api.stub.port       - listen port, 0 picks a free one (default: 0)
+ * api.stub.latency.ms - delay added to every response (default: 0)
+ */
+public class StubServer implements AutoCloseable {
+
+    private static final Logger logger = LogManager.getLogger(StubServer.class);
+    private static final Gson gson = new Gson();
+    private static volatile StubServer shared;
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool(
+            Thread.ofPlatform().name("stub-server-", 1).daemon().factory());
+    private final List<Route> routes = new CopyOnWriteArrayList<>();
+    private final long baseLatencyMillis;
+
+    private final AtomicLong requestsServed = new AtomicLong();
+    private final AtomicLong requestsUnmatched = new AtomicLong();
+    private final AtomicLong faultsInjected = new AtomicLong();
+
+    private StubServer(int port, long baseLatencyMillis) throws IOException {
+        this.baseLatencyMillis = baseLatencyMillis;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        this.server.createContext("/", this::handle);
+        this.server.setExecutor(executor);
+    }
+
+    /**
+     * Start a stub server on a free loopback port with the routes from a directory
+     */
+    public static StubServer start(Path routesDir) {
+        return start(routesDir, 0, 0);
+    }
+
+    /**
+     * Start a stub server with the routes from a directory, on a port (0 = any free port) and with
+     * a base latency added to every response
+     */
+    public static StubServer start(Path routesDir, int port, long baseLatencyMillis) {
+        long begin = System.nanoTime();
+        try {
+            StubServer stub = new StubServer(port, baseLatencyMillis);
+            stub.loadRoutes(routesDir);
+            stub.server.start();
+            logger.info("Stub server started at " + stub.getBaseUrl() + " with " + stub.routes.size()
+                    + " route(s) in " + (System.nanoTime() - begin) / 1_000_000 + " ms");
+            return stub;
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to start stub server", e);
+        }
+    }
+
+    /**
+     * Check whether api.base.url should be replaced by the shared stub server
+     */
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(ConfigReader.getProperty("api.stub.enabled", "false"));
+    }
+
+    /**
+     * The shared stub server configured in config.properties, started on first use and stopped at JVM exit
+     */
+    public static StubServer shared() {
+        StubServer current = shared;
+        if (current == null) {
+            synchronized (StubServer.class) {
+                if (shared == null) {
+                    shared = start(routesDir(),
+                            Integer.parseInt(ConfigReader.getProperty("api.stub.port", "0")),
+                            Long.parseLong(ConfigReader.getProperty("api.stub.latency.ms", "0")));
+                    Runtime.getRuntime().addShutdownHook(new Thread(shared::close, "stub-server-shutdown"));
+                }
+                current = shared;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * api.stub.routes.dir, or the "stubs" directory on the classpath (src/test/resources/stubs in this project)
+     */
+    private static Path routesDir() {
+        String configured = ConfigReader.getProperty("api.stub.routes.dir", "");
+        if (!configured.isBlank()) {
+            return Paths.get(configured.trim());
+        }
+        URL stubs = StubServer.class.getClassLoader().getResource("stubs");
+        if (stubs == null || !"file".equals(stubs.getProtocol())) {
+            throw new IllegalStateException("No stubs directory on the classpath; set api.stub.routes.dir");
+        }
+        try {
+            return Paths.get(stubs.toURI());
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException("Invalid stubs directory: " + stubs, e);
+        }
+    }
+
+    /**
+     * Shared server statistics, or null when it was never started
+     */
+    public static String getSharedStats() {
+        StubServer current = shared;
+        return current == null ? null : current.getStats();
+    }
+
+    /**
+     * Load every *.json route file in a directory (sorted by name) after the routes already loaded
+     */
+    public StubServer loadRoutes(Path routesDir) {
+        if (!Files.isDirectory(routesDir)) {
+            logger.warn("Stub routes directory not found: " + routesDir);
+            return this;
+        }
+        try (Stream<Path> files = Files.list(routesDir)) {
+            for (Path file : files.filter(f -> f.toString().endsWith(".json")).sorted().toList()) {
+                try (Reader reader = Files.newBufferedReader(file)) {
+                    List<Route> loaded = gson.fromJson(reader, new TypeToken<List<Route>>() { }.getType());
+                    loaded.forEach(route -> route.prepare(routesDir));
+                    routes.addAll(loaded);
+                    logger.info("Loaded " + loaded.size() + " stub route(s) from " + file.getFileName());
+                }
+            }
+        } catch (IOException | JsonSyntaxException e) {
+            throw new IllegalStateException("Failed to load stub routes from " + routesDir, e);
+        }
+        return this;
+    }
+
+    /**
+     * Base URL to hand to an {@link APIClient}
+     */
+    public String getBaseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    /**
+     * Number of requests answered from a route
+     */
+    public long getRequestsServed() {
+        return requestsServed.get();
+    }
+
+    /**
+     * Requests served, requests with no matching route and injected faults
+     */
+    public String getStats() {
+        return "StubServer " + getBaseUrl() + " served=" + requestsServed.get() + " unmatched="
+                + requestsUnmatched.get() + " faults=" + faultsInjected.get();
+    }
+
+    /**
+     * Stop accepting requests and release the port
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+        logger.info(getStats());
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String method = exchange.getRequestMethod();
+            String path = exchange.getRequestURI().getPath();
+            Route route = match(method, path);
+            if (route == null) {
+                requestsUnmatched.incrementAndGet();
+                logger.warn("No stub route for " + method + " " + path);
+                send(exchange, 404, Map.of(), ("{\"error\": \"No stub route for " + method + " " + path + "\"}")
+                        .getBytes(StandardCharsets.UTF_8), false);
+                return;
+            }
+            byte[] requestBody;
+            try (InputStream in = exchange.getRequestBody()) {
+                requestBody = in.readAllBytes();
+            }
+            pause(baseLatencyMillis + route.latencyMs
+                    + (route.jitterMs > 0 ? ThreadLocalRandom.current().nextLong(route.jitterMs + 1) : 0));
+
+            boolean faulted = route.fault != null && ThreadLocalRandom.current().nextDouble() < route.faultRate;
+            if (faulted) {
+                faultsInjected.incrementAndGet();
+                if ("drop".equals(route.fault)) {
+                    // Closing an exchange before any response headers are sent closes the connection
+                    logger.debug("Dropping connection for {} {}", method, path);
+                    return;
+                }
+            }
+            requestsServed.incrementAndGet();
+            send(exchange, route.status, route.headers, route.responseBody(requestBody),
+                    faulted && "truncate".equals(route.fault));
+        }
+    }
+
+    private Route match(String method, String path) {
+        for (Route route : routes) {
+            if (route.matches(method, path)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    private static void send(HttpExchange exchange, int status, Map<String, String> headers, byte[] body,
+                             boolean truncate) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        if (headers != null) {
+            headers.forEach((name, value) -> exchange.getResponseHeaders().set(name, value));
+        }
+        if (status == 204 || status == 304 || body.length == 0) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body, 0, truncate ? body.length / 2 : body.length);
+        }
+    }
+
+    private static void pause(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Stubbed endpoint, deserialized from a route file
+     */
+    private static final class Route {
+        private String method = "*";
+        private String path;
+        private int status = 200;
+        private Map<String, String> headers;
+        private JsonElement body;
+        private String bodyFile;
+        private boolean echoRequest;
+        private long latencyMs;
+        private long jitterMs;
+        private String fault;
+        private double faultRate = 1.0;
+        private transient Pattern pattern;
+        private transient byte[] bodyBytes;
+
+        void prepare(Path routesDir) {
+            if (path == null) {
+                throw new IllegalStateException("Stub route without a path in " + routesDir);
+            }
+            pattern = compile(path);
+            try {
+                bodyBytes = bodyFile != null
+                        ? Files.readAllBytes(routesDir.resolve(bodyFile))
+                        : (body == null ? new byte[0] : gson.toJson(body).getBytes(StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to read stub body file: " + bodyFile, e);
+            }
+        }
+
+        boolean matches(String requestMethod, String requestPath) {
+            return ("*".equals(method) || method.equalsIgnoreCase(requestMethod))
+                    && pattern.matcher(requestPath).matches();
+        }
+
+        byte[] responseBody(byte[] requestBody) {
+            if (!echoRequest || requestBody.length == 0) {
+                return bodyBytes;
+            }
+            JsonObject merged = body != null && body.isJsonObject() ? body.getAsJsonObject().deepCopy() : new JsonObject();
+            try {
+                JsonElement request = JsonParser.parseString(new String(requestBody, StandardCharsets.UTF_8));
+                if (request.isJsonObject()) {
+                    request.getAsJsonObject().entrySet().forEach(field -> merged.add(field.getKey(), field.getValue()));
+                }
+            } catch (JsonSyntaxException e) {
+                logger.debug("Request body is not JSON, not echoed: {}", e.getMessage());
+            }
+            return gson.toJson(merged).getBytes(StandardCharsets.UTF_8);
+        }
+
+        private static Pattern compile(String template) {
+            StringBuilder regex = new StringBuilder();
+            StringBuilder literal = new StringBuilder();
+            for (int i = 0; i < template.length(); i++) {
+                char c = template.charAt(i);
+                if (c == '{') {
+                    int end = template.indexOf('}', i);
+                    if (end < 0) {
+                        throw new IllegalStateException("Unclosed '{' in stub path: " + template);
+                    }
+                    regex.append(Pattern.quote(literal.toString())).append("[^/]+");
+                    literal.setLength(0);
+                    i = end;
+                } else if (c == '*') {
+                    regex.append(Pattern.quote(literal.toString())).append(".*");
+                    literal.setLength(0);
+                } else {
+                    literal.append(c);
+                }
+            }
+            regex.append(Pattern.quote(literal.toString()));
+            return Pattern.compile(regex.toString());
+        }
+    }
+}
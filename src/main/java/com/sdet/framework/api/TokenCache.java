@@ -0,0 +1,145 @@
+package com.sdet.framework.api;
+
+import com.sdet.framework.utils.ConfigReader;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * TokenCache - JVM-wide cache of access tokens per provider and principal.
+ *
+ * A token is fetched on first use and fetched again once it is within the refresh margin of its expiry.
+ * Concurrent requests for the same principal are collapsed: one thread calls the provider and every
+ * other thread waits for that result, so a burst of parallel tests produces a single login call.
+ * A failed fetch is not cached; the next request tries again.
+ *
+ * Configuration (config.properties):
+ * api.auth.refresh.skew.seconds - refresh tokens this long before they expire (default: 30)
+ */
+public class TokenCache {
+
+    private static final Logger logger = LogManager.getLogger(TokenCache.class);
+    private static volatile TokenCache shared;
+
+    private final Duration refreshMargin;
+    private final Map<String, CompletableFuture<AccessToken>> tokens = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong fetches = new AtomicLong();
+    private final AtomicLong collapsed = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+
+    /**
+     * Cache that refreshes tokens the given margin before expiry
+     */
+    public TokenCache(Duration refreshMargin) {
+        this.refreshMargin = refreshMargin;
+    }
+
+    /**
+     * The JVM-wide cache used by {@link APIClient#withCredentials(CredentialProvider, String)}
+     */
+    public static TokenCache shared() {
+        TokenCache current = shared;
+        if (current == null) {
+            synchronized (TokenCache.class) {
+                if (shared == null) {
+                    shared = new TokenCache(Duration.ofSeconds(
+                            Long.parseLong(ConfigReader.getProperty("api.auth.refresh.skew.seconds", "30"))));
+                }
+                current = shared;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Statistics of the JVM-wide cache, or null when it was never used
+     */
+    public static String getSharedStats() {
+        TokenCache current = shared;
+        return current == null ? null : current.getStats();
+    }
+
+    /**
+     * A valid token for the principal, fetching it when absent or about to expire
+     */
+    public AccessToken get(CredentialProvider provider, String principal) {
+        String key = provider.name() + "/" + principal;
+        while (true) {
+            CompletableFuture<AccessToken> current = tokens.get(key);
+            if (current != null) {
+                if (!current.isDone()) {
+                    collapsed.incrementAndGet();
+                    return await(current);
+                }
+                AccessToken token = current.isCompletedExceptionally() ? null : current.join();
+                if (token != null && !token.expiresWithin(refreshMargin)) {
+                    hits.incrementAndGet();
+                    return token;
+                }
+            }
+            CompletableFuture<AccessToken> refresh = new CompletableFuture<>();
+            boolean owner = current == null ? tokens.putIfAbsent(key, refresh) == null : tokens.replace(key, current, refresh);
+            if (!owner) {
+                // Another thread started a refresh first; wait for it on the next pass
+                continue;
+            }
+            return fetch(provider, principal, key, refresh);
+        }
+    }
+
+    /**
+     * Drop the cached token so the next request fetches a new one (e.g. after a 401)
+     */
+    public void invalidate(CredentialProvider provider, String principal) {
+        CompletableFuture<AccessToken> removed = tokens.remove(provider.name() + "/" + principal);
+        if (removed != null) {
+            logger.info("Token invalidated for " + principal);
+        }
+    }
+
+    /**
+     * Cache hits, provider calls, requests that waited on another thread's fetch, and failed fetches
+     */
+    public String getStats() {
+        return "TokenCache hits=" + hits.get() + " fetches=" + fetches.get() + " collapsed=" + collapsed.get()
+                + " failures=" + failures.get() + " principals=" + tokens.size();
+    }
+
+    private AccessToken fetch(CredentialProvider provider, String principal, String key,
+                              CompletableFuture<AccessToken> refresh) {
+        fetches.incrementAndGet();
+        long start = System.nanoTime();
+        try {
+            AccessToken token = provider.fetch(principal);
+            refresh.complete(token);
+            logger.info("Token fetched for " + principal + " in " + (System.nanoTime() - start) / 1_000_000
+                    + " ms, expires at " + token.expiresAt());
+            return token;
+        } catch (RuntimeException e) {
+            failures.incrementAndGet();
+            tokens.remove(key, refresh);
+            refresh.completeExceptionally(e);
+            logger.error("Token fetch failed for " + principal + ": " + e.getMessage());
+            throw e;
+        }
+    }
+
+    private static AccessToken await(CompletableFuture<AccessToken> pending) {
+        try {
+            return pending.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -1,13 +1,20 @@
 package com.sdet.framework.core;
 
 import com.sdet.framework.drivers.DriverFactory;
+import com.sdet.framework.drivers.SessionSnapshot;
+import com.sdet.framework.pages.LoginPage;
 import com.sdet.framework.utils.ConfigReader;
+import com.sdet.framework.utils.WaitPolicy;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 
+import java.time.Duration;
+
 /**
  * BaseTest class - Parent class for all test classes
  * Handles WebDriver initialization and cleanup
@@ -21,18 +28,50 @@ public class BaseTest {
     public void setUp() {
         String browser = ConfigReader.getBrowser();
         driver = DriverFactory.initializeDriver(browser);
-        driver.manage().window().maximize();
+        WaitPolicy.startTestBudget();
         logger.info("Test setup completed");
     }
 
     @AfterMethod
     public void tearDown() {
+        WaitPolicy.clearTestBudget();
         if (DriverFactory.isDriverInitialized()) {
             DriverFactory.quitDriver();
             logger.info("Test teardown completed");
         }
     }
 
+    /**
+     * Open the app home page signed in as a user configured under ui.user.{user}.username/.password,
+     * read like API credentials: -D properties or UI_USER_{USER}_USERNAME / _PASSWORD in the environment.
+     * The login form is only driven for the first test per user; later tests get the captured session
+     * injected (see {@link SessionSnapshot}).
+     */
+    protected void loginAs(String user) {
+        String appUrl = ConfigReader.getApplicationUrl();
+        String homePath = ConfigReader.getProperty("app.home.path", "/inventory.html");
+        SessionSnapshot.restore(driver, user, webDriver -> {
+            String username = ConfigReader.getSecret("ui.user." + user + ".username");
+            String password = ConfigReader.getSecret("ui.user." + user + ".password");
+            if (username == null || password == null) {
+                throw new IllegalStateException("No credentials configured for user '" + user
+                        + "' (-Dui.user." + user + ".username/.password or " + ConfigReader.environmentName("ui.user." + user)
+                        + "_USERNAME/_PASSWORD)");
+            }
+            webDriver.navigate().to(appUrl);
+            LoginPage loginPage = new LoginPage(webDriver);
+            loginPage.step("login as " + user, () -> {
+                loginPage.submitCredentials(username, password);
+                new WebDriverWait(webDriver, Duration.ofSeconds(ConfigReader.getExplicitWait()))
+                        .until(ExpectedConditions.urlContains(homePath));
+            });
+        });
+        if (!driver.getCurrentUrl().contains(homePath)) {
+            driver.navigate().to(appUrl.replaceAll("/+$", "") + homePath);
+        }
+        logger.info("Signed in as " + user);
+    }
+
     /**
      * Get WebDriver instance
      */
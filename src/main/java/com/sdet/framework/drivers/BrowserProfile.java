@@ -0,0 +1,89 @@
+package com.sdet.framework.drivers;
+
+import com.sdet.framework.utils.ConfigReader;
+import org.openqa.selenium.Dimension;
+
+/**
+ * BrowserProfile - named launch profiles applied by {@link DriverFactory} to every browser type.
+ *
+ * Select with browser.profile in config.properties or -Dbrowser.profile=fast-headless:
+ * default       - headed and maximized (headless with a 1920x1080 viewport when headless.mode=true)
+ * fast-headless - headless, fixed 1366x768 viewport, no GPU, extensions, background networking or animations
+ * ci-lowmem     - fast-headless plus blocked images and reduced renderer memory, for dense CI nodes
+ */
+public enum BrowserProfile {
+
+    DEFAULT("default", false, null, false, false),
+    FAST_HEADLESS("fast-headless", true, new Dimension(1366, 768), true, false),
+    CI_LOWMEM("ci-lowmem", true, new Dimension(1280, 720), true, true);
+
+    private static final Dimension HEADLESS_VIEWPORT = new Dimension(1920, 1080);
+
+    private final String profileName;
+    private final boolean headless;
+    private final Dimension viewport;
+    private final boolean lean;
+    private final boolean lowMemory;
+
+    BrowserProfile(String profileName, boolean headless, Dimension viewport, boolean lean, boolean lowMemory) {
+        this.profileName = profileName;
+        this.headless = headless;
+        this.viewport = viewport;
+        this.lean = lean;
+        this.lowMemory = lowMemory;
+    }
+
+    /**
+     * Resolve the active profile from configuration
+     */
+    public static BrowserProfile current() {
+        return fromName(ConfigReader.getBrowserProfile());
+    }
+
+    /**
+     * Look up a profile by its configuration name, e.g. "fast-headless"
+     */
+    public static BrowserProfile fromName(String name) {
+        for (BrowserProfile profile : values()) {
+            if (profile.profileName.equalsIgnoreCase(name.trim())) {
+                return profile;
+            }
+        }
+        throw new IllegalArgumentException("Unknown browser profile: " + name);
+    }
+
+    public String getProfileName() {
+        return profileName;
+    }
+
+    /**
+     * Headless when the profile says so or headless.mode=true
+     */
+    public boolean isHeadless() {
+        return headless || ConfigReader.isHeadless();
+    }
+
+    /**
+     * Fixed viewport, or null to start maximized
+     */
+    public Dimension getViewport() {
+        if (viewport == null && isHeadless()) {
+            return HEADLESS_VIEWPORT;
+        }
+        return viewport;
+    }
+
+    /**
+     * Disable GPU, extensions, background networking and animations
+     */
+    public boolean isLean() {
+        return lean;
+    }
+
+    /**
+     * Block image loading and trim renderer memory
+     */
+    public boolean isLowMemory() {
+        return lowMemory;
+    }
+}
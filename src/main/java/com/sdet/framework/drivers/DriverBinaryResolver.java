@@ -0,0 +1,251 @@
+package com.sdet.framework.drivers;
+
+import com.sdet.framework.utils.ConfigReader;
+import com.sdet.framework.utils.LockedFiles;
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * DriverBinaryResolver - resolves the driver binary for a browser once per JVM.
+ *
+ * The first launch of a browser type runs WebDriverManager and records the downloaded driver path
+ * in a local manifest. Later launches, in this JVM or the next one, reuse the recorded path and
+ * skip WebDriverManager entirely. Concurrent callers for the same browser wait on a single resolution.
+ * When the browser refuses a session with a driver taken from the manifest (typically after a browser
+ * update), {@link #launch(String, Supplier)} drops that entry, resolves the driver afresh and retries once.
+ *
+ * Configuration (config.properties):
+ * driver.manifest.path - manifest location (default: ~/.cache/sdet-framework/driver-manifest.properties)
+ * driver.offline       - never contact the network; fail fast when no driver is recorded (default: false)
+ */
+public class DriverBinaryResolver {
+
+    private static final Logger logger = LogManager.getLogger(DriverBinaryResolver.class);
+    private static final Map<String, CompletableFuture<String>> resolutions = new ConcurrentHashMap<>();
+    private static final Set<String> manifestPaths = ConcurrentHashMap.newKeySet();
+    private static final Object manifestMonitor = new Object();
+
+    private DriverBinaryResolver() {
+    }
+
+    /**
+     * Make sure the driver binary for the browser is available, resolving it at most once per JVM.
+     * Returns the driver path, or null when Selenium should locate the driver itself.
+     */
+    public static String resolve(String browserName) {
+        String systemProperty = driverSystemProperty(browserName);
+        if (systemProperty == null) {
+            return null;
+        }
+        CompletableFuture<String> created = new CompletableFuture<>();
+        CompletableFuture<String> existing = resolutions.putIfAbsent(browserName, created);
+        if (existing == null) {
+            try {
+                created.complete(resolveOnce(browserName, systemProperty));
+            } catch (RuntimeException e) {
+                // Let the next caller retry rather than caching the failure
+                resolutions.remove(browserName, created);
+                created.completeExceptionally(e);
+            }
+            existing = created;
+        }
+        try {
+            return existing.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    /**
+     * Resolve the driver and start a session with it. If a driver recorded in the manifest no longer
+     * matches the installed browser, the entry is dropped and the session is started once more with a
+     * freshly resolved driver.
+     */
+    public static <T extends WebDriver> T launch(String browserName, Supplier<T> launcher) {
+        String path = resolve(browserName);
+        try {
+            return launcher.get();
+        } catch (SessionNotCreatedException e) {
+            if (path == null || !manifestPaths.contains(path) || isOffline()) {
+                throw e;
+            }
+            logger.warn("Cached " + browserName + " driver " + path + " was rejected, resolving it again: "
+                    + e.getRawMessage());
+            forget(browserName, path);
+            resolve(browserName);
+            return launcher.get();
+        }
+    }
+
+    /**
+     * Check whether strict offline mode is enabled
+     */
+    public static boolean isOffline() {
+        return Boolean.parseBoolean(ConfigReader.getProperty("driver.offline", "false"));
+    }
+
+    private static String resolveOnce(String browserName, String systemProperty) {
+        String preset = System.getProperty(systemProperty);
+        if (preset != null && Files.isExecutable(Paths.get(preset))) {
+            logger.info("Using " + browserName + " driver from -D" + systemProperty + ": " + preset);
+            return preset;
+        }
+
+        String recorded = readManifest().getProperty(browserName + ".path");
+        if (recorded != null && Files.isExecutable(Paths.get(recorded))) {
+            manifestPaths.add(recorded);
+            System.setProperty(systemProperty, recorded);
+            logger.info("Using cached " + browserName + " driver from manifest: " + recorded);
+            return recorded;
+        }
+
+        if (isOffline()) {
+            throw new IllegalStateException("Offline mode (driver.offline=true): no usable " + browserName
+                    + " driver recorded in " + manifestPath() + ". Run once with network access or pass -D"
+                    + systemProperty + "=/path/to/driver");
+        }
+
+        long start = System.nanoTime();
+        WebDriverManager manager = setupWithWebDriverManager(browserName);
+        String path = manager == null ? null : manager.getDownloadedDriverPath();
+        if (path == null) {
+            logger.warn(browserName + " driver not resolved by WebDriverManager, relying on Selenium to locate it");
+            return null;
+        }
+        System.setProperty(systemProperty, path);
+        String version = manager.getDownloadedDriverVersion();
+        updateManifest(manifest -> {
+            manifest.setProperty(browserName + ".path", path);
+            if (version != null) {
+                manifest.setProperty(browserName + ".version", version);
+            }
+        });
+        logger.info("Resolved " + browserName + " driver " + path + " in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+        return path;
+    }
+
+    /**
+     * Drop a stale driver from the JVM-wide resolution, the system property and the manifest.
+     * Safe to call from several threads that saw the same stale driver.
+     */
+    private static void forget(String browserName, String stalePath) {
+        String systemProperty = driverSystemProperty(browserName);
+        synchronized (manifestMonitor) {
+            CompletableFuture<String> resolution = resolutions.get(browserName);
+            if (resolution != null && resolution.isDone() && stalePath.equals(resolution.getNow(null))) {
+                resolutions.remove(browserName, resolution);
+            }
+            if (stalePath.equals(System.getProperty(systemProperty))) {
+                System.clearProperty(systemProperty);
+            }
+        }
+        updateManifest(manifest -> {
+            if (stalePath.equals(manifest.getProperty(browserName + ".path"))) {
+                manifest.remove(browserName + ".path");
+                manifest.remove(browserName + ".version");
+            }
+        });
+    }
+
+    private static WebDriverManager setupWithWebDriverManager(String browserName) {
+        switch (browserName) {
+            case "chrome" -> {
+                WebDriverManager manager = WebDriverManager.chromedriver();
+                manager.setup();
+                return manager;
+            }
+            case "firefox" -> {
+                WebDriverManager manager = WebDriverManager.firefoxdriver();
+                manager.setup();
+                return manager;
+            }
+            case "edge" -> {
+                try {
+                    WebDriverManager manager = WebDriverManager.edgedriver().timeout(120);
+                    manager.setup();
+                    return manager;
+                } catch (Exception e) {
+                    logger.warn("WebDriverManager failed to download EdgeDriver, attempting fallback: " + e.getMessage());
+                    try {
+                        WebDriverManager manager = WebDriverManager.edgedriver()
+                                .avoidFallback()
+                                .cachePath("~/.cache/selenium");
+                        manager.setup();
+                        return manager;
+                    } catch (Exception ex) {
+                        logger.error("EdgeDriver setup failed. Attempting to use system-installed driver.", ex);
+                        // Let Selenium try to find msedgedriver in PATH
+                        return null;
+                    }
+                }
+            }
+            default -> throw new IllegalArgumentException("No driver binary to resolve for: " + browserName);
+        }
+    }
+
+    private static String driverSystemProperty(String browserName) {
+        return switch (browserName) {
+            case "chrome" -> "webdriver.chrome.driver";
+            case "firefox" -> "webdriver.gecko.driver";
+            case "edge" -> "webdriver.edge.driver";
+            default -> null;
+        };
+    }
+
+    private static Path manifestPath() {
+        String configured = ConfigReader.getProperty("driver.manifest.path");
+        if (configured != null && !configured.isBlank()) {
+            return Paths.get(configured);
+        }
+        return Paths.get(System.getProperty("user.home"), ".cache", "sdet-framework", "driver-manifest.properties");
+    }
+
+    private static Properties readManifest() {
+        Properties manifest = new Properties();
+        Path path = manifestPath();
+        if (Files.exists(path)) {
+            try (InputStream in = Files.newInputStream(path)) {
+                manifest.load(in);
+            } catch (IOException e) {
+                logger.warn("Ignoring unreadable driver manifest " + path + ": " + e.getMessage());
+            }
+        }
+        return manifest;
+    }
+
+    /**
+     * Change the manifest through {@link LockedFiles}, so parallel JVMs on the same machine
+     * don't clobber each other.
+     */
+    private static void updateManifest(Consumer<Properties> update) {
+        Path path = manifestPath();
+        synchronized (manifestMonitor) {
+            try {
+                LockedFiles.update(path, () -> {
+                    Properties manifest = readManifest();
+                    update.accept(manifest);
+                    return manifest;
+                }, (manifest, out) -> manifest.store(out, "Resolved WebDriver binaries"));
+            } catch (IOException e) {
+                logger.warn("Failed to update driver manifest " + path + ": " + e.getMessage());
+            }
+        }
+    }
+}
@@ -1,20 +1,37 @@
 package com.sdet.framework.drivers;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
 import com.sdet.framework.utils.ConfigReader;
+import com.sdet.framework.utils.Metrics;
+import com.sdet.framework.utils.ElementCache;
+import org.openqa.selenium.Dimension;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
 import org.openqa.selenium.edge.EdgeDriver;
 import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.safari.SafariDriver;
 import org.openqa.selenium.safari.SafariOptions;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import com.epam.healenium.SelfHealingDriver;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.LongSummaryStatistics;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 /**
  * DriverFactory class to manage WebDriver instances with ThreadLocal
  * Supports Chrome, Firefox, and Edge browsers
@@ -23,96 +40,283 @@ public class DriverFactory {
 
     private static final Logger logger = LogManager.getLogger(DriverFactory.class);
     private static final ThreadLocal<WebDriver> driver = new ThreadLocal<>();
+    private static final Map<String, Queue<CompletableFuture<WebDriver>>> prewarmed = new ConcurrentHashMap<>();
+    private static final Map<String, LongSummaryStatistics> startupMillis = new ConcurrentHashMap<>();
 
     /**
-     * Initialize WebDriver based on browser type
+     * Initialize WebDriver based on browser type.
+     * In pooled mode (driver.pool.enabled=true) a session is leased from {@link DriverPool};
+     * otherwise a pre-warmed session is used when one is available before launching a new browser.
      */
     public static WebDriver initializeDriver(String browserName) {
-        if (driver.get() != null) {
-            return driver.get();
-        }
+        return Metrics.time("driver.init", () -> {
+            if (driver.get() != null) {
+                return driver.get();
+            }
+
+            String browser = browserName.toLowerCase().trim();
+            WebDriver finalDriver = DriverPool.isEnabled()
+                    ? DriverPool.forBrowser(browser).lease()
+                    : takePrewarmed(browser);
+            if (finalDriver == null) {
+                finalDriver = createDriver(browser);
+            }
 
+            driver.set(finalDriver);
+            return finalDriver;
+        });
+    }
+
+    /**
+     * Launch a new browser session, optionally wrapped with Healenium
+     */
+    static WebDriver createDriver(String browserName) {
+        long start = System.nanoTime();
         WebDriver webDriver = null;
-        browserName = browserName.toLowerCase().trim();
 
+        BrowserProfile profile = BrowserProfile.current();
         switch (browserName) {
-            case "chrome" -> webDriver = initializeChrome();
-            case "firefox" -> webDriver = initializeFirefox();
-            case "edge" -> webDriver = initializeEdge();
-            case "safari" -> webDriver = initializeSafari();
+            case "chrome" -> webDriver = initializeChrome(profile);
+            case "firefox" -> webDriver = initializeFirefox(profile);
+            case "edge" -> webDriver = initializeEdge(profile);
+            case "safari" -> webDriver = initializeSafari(profile);
             default -> {
                 logger.error("Browser not supported: " + browserName);
                 throw new IllegalArgumentException("Browser not supported: " + browserName);
             }
         }
 
-    // Optionally wrap with Healenium SelfHealingDriver based on config
-    boolean healEnabled = Boolean.parseBoolean(ConfigReader.getProperty("heal.enabled", "true"));
-    WebDriver finalDriver = healEnabled ? SelfHealingDriver.create(webDriver) : webDriver;
+        // Interception needs the unwrapped driver (DevTools/BiDi are not exposed through Healenium)
+        NetworkInterception.attach(webDriver, browserName);
+
+        // Optionally wrap with Healenium SelfHealingDriver based on config
+        boolean healEnabled = Boolean.parseBoolean(ConfigReader.getProperty("heal.enabled", "true"));
+        WebDriver finalDriver = healEnabled ? SelfHealingDriver.create(webDriver) : webDriver;
+        finalDriver = decorate(finalDriver);
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        LongSummaryStatistics stats = startupMillis.computeIfAbsent(browserName, name -> new LongSummaryStatistics());
+        synchronized (stats) {
+            stats.accept(elapsedMillis);
+        }
+        logger.info((healEnabled ? "SelfHealingDriver" : "WebDriver") + " initialized for: " + browserName
+                + " (profile " + profile.getProfileName() + ") in " + elapsedMillis + " ms");
+        return finalDriver;
+    }
+
+    /**
+     * Attach the round-trip counter and the element cache's navigation listener to a new session
+     */
+    private static WebDriver decorate(WebDriver webDriver) {
+        List<WebDriverListener> listeners = new ArrayList<>();
+        if (RoundTripCounter.isEnabled()) {
+            listeners.add(RoundTripCounter.listener());
+        }
+        ElementCache elementCache = ElementCache.isEnabled() ? new ElementCache() : null;
+        if (elementCache != null) {
+            listeners.add(elementCache);
+        }
+        if (listeners.isEmpty()) {
+            return webDriver;
+        }
+        WebDriver decorated = new EventFiringDecorator<>(listeners.toArray(new WebDriverListener[0])).decorate(webDriver);
+        if (elementCache != null) {
+            ElementCache.register(decorated, elementCache);
+        }
+        return decorated;
+    }
+
+    /**
+     * Start launching sessions in the background so the first initializeDriver call on each
+     * test thread does not pay browser startup. In pooled mode the sessions go straight into
+     * the {@link DriverPool}; otherwise they are queued for the next initializeDriver calls.
+     */
+    public static void prewarm(String browserName, int count) {
+        String browser = browserName.toLowerCase().trim();
+        if (count <= 0) {
+            return;
+        }
+        ExecutorService launcher = Executors.newFixedThreadPool(count, runnable -> {
+            Thread thread = new Thread(runnable, "driver-prewarm-" + browser);
+            thread.setDaemon(true);
+            return thread;
+        });
+        boolean pooled = DriverPool.isEnabled();
+        Queue<CompletableFuture<WebDriver>> queue = prewarmed.computeIfAbsent(browser, name -> new ConcurrentLinkedQueue<>());
+        for (int i = 0; i < count; i++) {
+            if (pooled) {
+                CompletableFuture.runAsync(() -> DriverPool.forBrowser(browser).launchIdle(), launcher)
+                        .exceptionally(e -> {
+                            logger.warn("Pre-warming pooled " + browser + " session failed: " + e.getMessage());
+                            return null;
+                        });
+            } else {
+                queue.add(CompletableFuture.supplyAsync(() -> createDriver(browser), launcher));
+            }
+        }
+        launcher.shutdown();
+        logger.info("Pre-warming " + count + " " + browser + " session(s)" + (pooled ? " into pool" : ""));
+    }
 
-    driver.set(finalDriver);
-    logger.info((healEnabled ? "SelfHealingDriver" : "WebDriver") + " initialized for: " + browserName);
-    return finalDriver;
+    /**
+     * Take a pre-warmed session, waiting for it if its launch is still in progress.
+     * Returns null when none is queued or the launch failed.
+     */
+    private static WebDriver takePrewarmed(String browserName) {
+        Queue<CompletableFuture<WebDriver>> queue = prewarmed.get(browserName);
+        CompletableFuture<WebDriver> pending = queue == null ? null : queue.poll();
+        if (pending == null) {
+            return null;
+        }
+        try {
+            return pending.join();
+        } catch (RuntimeException e) {
+            logger.warn("Pre-warmed " + browserName + " session failed to start, launching a new one: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Quit pre-warmed sessions that were never handed to a test
+     */
+    public static void discardPrewarmed() {
+        prewarmed.values().forEach(queue -> {
+            CompletableFuture<WebDriver> pending;
+            while ((pending = queue.poll()) != null) {
+                pending.thenAccept(WebDriver::quit);
+            }
+        });
+    }
+
+    /**
+     * Browser startup latency per browser type, e.g. "chrome: n=4 avg=1830 ms min=1402 ms max=2511 ms"
+     */
+    public static List<String> getStartupSummary() {
+        List<String> summary = new ArrayList<>();
+        startupMillis.forEach((browser, stats) -> {
+            synchronized (stats) {
+                summary.add(String.format("%s: n=%d avg=%.0f ms min=%d ms max=%d ms",
+                        browser, stats.getCount(), stats.getAverage(), stats.getMin(), stats.getMax()));
+            }
+        });
+        return summary;
     }
 
     /**
      * Initialize Chrome browser
      */
-    private static WebDriver initializeChrome() {
-        WebDriverManager.chromedriver().setup();
+    private static WebDriver initializeChrome(BrowserProfile profile) {
         ChromeOptions options = new ChromeOptions();
-        options.addArguments("--start-maximized");
+        applyChromiumProfile(options, profile);
         options.addArguments("--disable-blink-features=AutomationControlled");
         options.setExperimentalOption("excludeSwitches", new String[]{"enable-automation"});
         options.setExperimentalOption("useAutomationExtension", false);
-        return new ChromeDriver(options);
+        return DriverBinaryResolver.launch("chrome", () -> new ChromeDriver(options));
     }
 
     /**
      * Initialize Firefox browser
      */
-    private static WebDriver initializeFirefox() {
-        WebDriverManager.firefoxdriver().setup();
+    private static WebDriver initializeFirefox(BrowserProfile profile) {
         FirefoxOptions options = new FirefoxOptions();
-        options.addArguments("--start-maximized");
-        return new FirefoxDriver(options);
+        if (NetworkInterception.isEnabled()) {
+            // BiDi network interception needs a WebSocket connection to the browser
+            options.setCapability("webSocketUrl", true);
+        }
+        Dimension viewport = profile.getViewport();
+        if (profile.isHeadless()) {
+            options.addArguments("-headless");
+        }
+        if (viewport != null) {
+            options.addArguments("--width=" + viewport.getWidth(), "--height=" + viewport.getHeight());
+        }
+        if (profile.isLean()) {
+            options.addPreference("layers.acceleration.disabled", true);
+            options.addPreference("ui.prefersReducedMotion", 1);
+            options.addPreference("toolkit.cosmeticAnimations.enabled", false);
+            options.addPreference("app.update.auto", false);
+            options.addPreference("app.normandy.enabled", false);
+            options.addPreference("datareporting.policy.dataSubmissionEnabled", false);
+            options.addPreference("network.prefetch-next", false);
+            options.addPreference("browser.safebrowsing.update.enabled", false);
+        }
+        if (profile.isLowMemory()) {
+            options.addPreference("permissions.default.image", 2);
+            options.addPreference("dom.ipc.processCount", 1);
+            options.addPreference("browser.cache.memory.capacity", 16384);
+        }
+        WebDriver webDriver = DriverBinaryResolver.launch("firefox", () -> new FirefoxDriver(options));
+        if (viewport == null) {
+            webDriver.manage().window().maximize();
+        }
+        return webDriver;
     }
 
     /**
      * Initialize Edge browser
      */
-    private static WebDriver initializeEdge() {
-        try {
-            WebDriverManager.edgedriver()
-                .clearDriverCache()
-                .clearResolutionCache()
-                .timeout(120)
-                .setup();
-        } catch (Exception e) {
-            logger.warn("WebDriverManager failed to download EdgeDriver, attempting fallback: " + e.getMessage());
-            try {
-                // Try with different configuration
-                WebDriverManager.edgedriver()
-                    .avoidFallback()
-                    .cachePath("~/.cache/selenium")
-                    .setup();
-            } catch (Exception ex) {
-                logger.error("EdgeDriver setup failed. Attempting to use system-installed driver.", ex);
-                // Let Selenium try to find msedgedriver in PATH
-            }
-        }
+    private static WebDriver initializeEdge(BrowserProfile profile) {
         EdgeOptions options = new EdgeOptions();
-        options.addArguments("--start-maximized");
-        return new EdgeDriver(options);
+        applyChromiumProfile(options, profile);
+        return DriverBinaryResolver.launch("edge", () -> new EdgeDriver(options));
     }
 
     /**
-     * Initialize Safari browser
+     * Initialize Safari browser.
+     * Safari has no headless mode or launch flags, so only the viewport is applied.
      */
-    private static WebDriver initializeSafari() {
+    private static WebDriver initializeSafari(BrowserProfile profile) {
         SafariOptions options = new SafariOptions();
         options.setAutomaticInspection(false);
-        return new SafariDriver(options);
+        if (profile.isHeadless()) {
+            logger.warn("Safari does not support headless mode, launching headed");
+        }
+        WebDriver webDriver = new SafariDriver(options);
+        Dimension viewport = profile.getViewport();
+        if (viewport != null) {
+            webDriver.manage().window().setSize(viewport);
+        } else {
+            webDriver.manage().window().maximize();
+        }
+        return webDriver;
+    }
+
+    /**
+     * Apply a launch profile to Chrome or Edge options
+     */
+    private static void applyChromiumProfile(ChromiumOptions<?> options, BrowserProfile profile) {
+        Dimension viewport = profile.getViewport();
+        if (profile.isHeadless()) {
+            options.addArguments("--headless=new");
+        }
+        if (viewport != null) {
+            options.addArguments("--window-size=" + viewport.getWidth() + "," + viewport.getHeight());
+        } else {
+            options.addArguments("--start-maximized");
+        }
+        if (profile.isLean()) {
+            options.addArguments(
+                    "--disable-gpu",
+                    "--disable-extensions",
+                    "--disable-background-networking",
+                    "--disable-component-update",
+                    "--disable-sync",
+                    "--disable-default-apps",
+                    "--no-first-run",
+                    "--no-default-browser-check",
+                    "--mute-audio",
+                    "--force-prefers-reduced-motion");
+        }
+        if (profile.isLowMemory()) {
+            options.addArguments(
+                    "--blink-settings=imagesEnabled=false",
+                    "--disable-dev-shm-usage",
+                    "--renderer-process-limit=2",
+                    "--disable-features=Translate,OptimizationHints,MediaRouter");
+            Map<String, Object> prefs = new HashMap<>();
+            prefs.put("profile.managed_default_content_settings.images", 2);
+            options.setExperimentalOption("prefs", prefs);
+        }
     }
 
     /**
@@ -127,15 +331,24 @@ public class DriverFactory {
     }
 
     /**
-     * Quit the WebDriver and remove from ThreadLocal
+     * Quit the WebDriver and remove from ThreadLocal.
+     * Pooled sessions are reset and returned to their pool instead of being quit.
      */
     public static void quitDriver() {
-        WebDriver webDriver = driver.get();
-        if (webDriver != null) {
-            webDriver.quit();
-            logger.info("WebDriver closed successfully");
-            driver.remove();
-        }
+        Metrics.time("driver.quit", () -> {
+            WebDriver webDriver = driver.get();
+            if (webDriver != null) {
+                DriverPool pool = DriverPool.owning(webDriver);
+                if (pool != null) {
+                    pool.release(webDriver);
+                    logger.info("WebDriver returned to pool");
+                } else {
+                    webDriver.quit();
+                    logger.info("WebDriver closed successfully");
+                }
+                driver.remove();
+            }
+        });
     }
 
     /**
@@ -0,0 +1,295 @@
+package com.sdet.framework.drivers;
+
+import com.sdet.framework.utils.ConfigReader;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DriverPool - fixed-size pool of pre-launched browser sessions per browser type.
+ *
+ * Sessions are leased to test threads by {@link DriverFactory#initializeDriver(String)} and
+ * handed back by {@link DriverFactory#quitDriver()}. On release a session is reset
+ * (extra tabs, cookies, storage, window size) instead of being quit, and it is retired
+ * once it reaches the configured reuse limit or fails a health check.
+ *
+ * Configuration (config.properties):
+ * driver.pool.enabled    - enable pooled mode (default: false)
+ * driver.pool.size       - maximum live sessions per browser (default: 2)
+ * driver.pool.max.reuse  - leases per session before it is replaced (default: 25)
+ */
+public class DriverPool {
+
+    private static final Logger logger = LogManager.getLogger(DriverPool.class);
+    private static final Map<String, DriverPool> pools = new ConcurrentHashMap<>();
+    private static final long SLOT_POLL_MILLIS = 250;
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(DriverPool::shutdownAll, "driver-pool-shutdown"));
+    }
+
+    private final String browserName;
+    private final int maxSize;
+    private final int maxReuse;
+    private final BlockingQueue<PooledSession> idle = new LinkedBlockingQueue<>();
+    private final Map<WebDriver, PooledSession> leased = new ConcurrentHashMap<>();
+    private final AtomicInteger liveSessions = new AtomicInteger();
+
+    private final AtomicLong leases = new AtomicLong();
+    private final AtomicLong leaseWaitNanos = new AtomicLong();
+    private final AtomicLong maxLeaseWaitNanos = new AtomicLong();
+    private final AtomicLong resets = new AtomicLong();
+    private final AtomicLong resetNanos = new AtomicLong();
+    private final AtomicLong launches = new AtomicLong();
+    private final AtomicLong retired = new AtomicLong();
+    private final AtomicLong healthFailures = new AtomicLong();
+
+    private DriverPool(String browserName, int maxSize, int maxReuse) {
+        this.browserName = browserName;
+        this.maxSize = maxSize;
+        this.maxReuse = maxReuse;
+    }
+
+    /**
+     * Check whether pooled mode is enabled
+     */
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(ConfigReader.getProperty("driver.pool.enabled", "false"));
+    }
+
+    /**
+     * Get (or create) the pool for a browser type
+     */
+    public static DriverPool forBrowser(String browserName) {
+        return pools.computeIfAbsent(browserName, name -> new DriverPool(name,
+                Math.max(1, Integer.parseInt(ConfigReader.getProperty("driver.pool.size", "2"))),
+                Math.max(1, Integer.parseInt(ConfigReader.getProperty("driver.pool.max.reuse", "25")))));
+    }
+
+    /**
+     * Find the pool that currently has the given driver leased out, or null
+     */
+    static DriverPool owning(WebDriver webDriver) {
+        for (DriverPool pool : pools.values()) {
+            if (pool.leased.containsKey(webDriver)) {
+                return pool;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Lease a healthy session, launching one if the pool is below its size limit
+     * or waiting for another thread to release one otherwise
+     */
+    public WebDriver lease() {
+        long start = System.nanoTime();
+        PooledSession session = null;
+        while (session == null) {
+            session = idle.poll();
+            if (session == null && reserveSlot()) {
+                session = launch();
+            }
+            if (session == null) {
+                session = awaitIdle();
+            }
+            if (session != null && !isHealthy(session)) {
+                healthFailures.incrementAndGet();
+                logger.warn("Discarding unhealthy pooled {} session", browserName);
+                retire(session);
+                session = null;
+            }
+        }
+        long waited = System.nanoTime() - start;
+        leases.incrementAndGet();
+        leaseWaitNanos.addAndGet(waited);
+        maxLeaseWaitNanos.accumulateAndGet(waited, Math::max);
+        session.uses++;
+        leased.put(session.driver, session);
+        logger.debug("Leased pooled {} session (use {}/{}, waited {} ms)",
+                browserName, session.uses, maxReuse, TimeUnit.NANOSECONDS.toMillis(waited));
+        return session.driver;
+    }
+
+    /**
+     * Return a leased session to the pool, resetting it for the next test
+     */
+    public void release(WebDriver webDriver) {
+        PooledSession session = leased.remove(webDriver);
+        if (session == null) {
+            quietQuit(webDriver);
+            return;
+        }
+        if (session.uses >= maxReuse) {
+            logger.debug("Pooled {} session reached reuse limit ({}), replacing", browserName, maxReuse);
+            retire(session);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            reset(session);
+            resets.incrementAndGet();
+            resetNanos.addAndGet(System.nanoTime() - start);
+            idle.offer(session);
+        } catch (WebDriverException e) {
+            logger.warn("Failed to reset pooled {} session, replacing: {}", browserName, e.getMessage());
+            retire(session);
+        }
+    }
+
+    /**
+     * Launch one session into the idle queue if the pool is below its size limit.
+     * Used to pre-warm the pool before tests start.
+     */
+    public boolean launchIdle() {
+        if (!reserveSlot()) {
+            return false;
+        }
+        idle.offer(launch());
+        return true;
+    }
+
+    /**
+     * Quit every idle and leased session in this pool
+     */
+    public void shutdown() {
+        List<PooledSession> sessions = new ArrayList<>();
+        idle.drainTo(sessions);
+        sessions.addAll(leased.values());
+        leased.clear();
+        sessions.forEach(this::retire);
+    }
+
+    /**
+     * Quit all sessions in every pool
+     */
+    public static void shutdownAll() {
+        pools.values().forEach(pool -> {
+            pool.shutdown();
+            logger.info(pool.getStats());
+        });
+    }
+
+    /**
+     * Counters for every pool created in this JVM
+     */
+    public static List<String> getAllStats() {
+        return pools.values().stream().map(DriverPool::getStats).toList();
+    }
+
+    /**
+     * Pool counters: leases, lease wait time, reset cost, launches and replacements
+     */
+    public String getStats() {
+        long leaseCount = leases.get();
+        long resetCount = resets.get();
+        return String.format(
+                "DriverPool[%s] leases=%d avgLeaseWaitMs=%.1f maxLeaseWaitMs=%d resets=%d avgResetMs=%.1f "
+                        + "launches=%d retired=%d healthFailures=%d",
+                browserName, leaseCount,
+                leaseCount == 0 ? 0.0 : leaseWaitNanos.get() / 1e6 / leaseCount,
+                TimeUnit.NANOSECONDS.toMillis(maxLeaseWaitNanos.get()),
+                resetCount,
+                resetCount == 0 ? 0.0 : resetNanos.get() / 1e6 / resetCount,
+                launches.get(), retired.get(), healthFailures.get());
+    }
+
+    private boolean reserveSlot() {
+        while (true) {
+            int live = liveSessions.get();
+            if (live >= maxSize) {
+                return false;
+            }
+            if (liveSessions.compareAndSet(live, live + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private PooledSession awaitIdle() {
+        try {
+            return idle.poll(SLOT_POLL_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a pooled " + browserName + " session", e);
+        }
+    }
+
+    private PooledSession launch() {
+        try {
+            WebDriver webDriver = DriverFactory.createDriver(browserName);
+            launches.incrementAndGet();
+            return new PooledSession(webDriver, webDriver.manage().window().getSize());
+        } catch (RuntimeException e) {
+            liveSessions.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private boolean isHealthy(PooledSession session) {
+        try {
+            session.driver.getWindowHandle();
+            return true;
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Close extra tabs, clear cookies and web storage, blank the page and restore the launch window size.
+     * Storage is cleared before leaving the current origin since it is scoped per origin.
+     */
+    private void reset(PooledSession session) {
+        WebDriver webDriver = session.driver;
+        List<String> handles = new ArrayList<>(webDriver.getWindowHandles());
+        for (int i = 1; i < handles.size(); i++) {
+            webDriver.switchTo().window(handles.get(i)).close();
+        }
+        webDriver.switchTo().window(handles.get(0));
+        webDriver.manage().deleteAllCookies();
+        ((JavascriptExecutor) webDriver).executeScript(
+                "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+        webDriver.navigate().to("about:blank");
+        if (!session.initialSize.equals(webDriver.manage().window().getSize())) {
+            webDriver.manage().window().setSize(session.initialSize);
+        }
+    }
+
+    private void retire(PooledSession session) {
+        quietQuit(session.driver);
+        liveSessions.decrementAndGet();
+        retired.incrementAndGet();
+    }
+
+    private void quietQuit(WebDriver webDriver) {
+        try {
+            webDriver.quit();
+        } catch (WebDriverException e) {
+            logger.debug("Ignoring failure while quitting pooled session: {}", e.getMessage());
+        }
+    }
+
+    private static final class PooledSession {
+        private final WebDriver driver;
+        private final Dimension initialSize;
+        private int uses;
+
+        private PooledSession(WebDriver driver, Dimension initialSize) {
+            this.driver = driver;
+            this.initialSize = initialSize;
+        }
+    }
+}
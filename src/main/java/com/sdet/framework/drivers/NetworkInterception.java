@@ -0,0 +1,283 @@
+package com.sdet.framework.drivers;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.sdet.framework.utils.ConfigReader;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.bidi.module.Network;
+import org.openqa.selenium.bidi.network.AddInterceptParameters;
+import org.openqa.selenium.bidi.network.BeforeRequestSent;
+import org.openqa.selenium.bidi.network.BytesValue;
+import org.openqa.selenium.bidi.network.ContinueRequestParameters;
+import org.openqa.selenium.bidi.network.InterceptPhase;
+import org.openqa.selenium.bidi.network.ProvideResponseParameters;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.devtools.NetworkInterceptor;
+import org.openqa.selenium.remote.http.Contents;
+import org.openqa.selenium.remote.http.HttpHandler;
+import org.openqa.selenium.remote.http.HttpResponse;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * NetworkInterception - blocks, allows and stubs browser requests for a session.
+ *
+ * Chromium sessions (Chrome, Edge) are intercepted through Chrome DevTools, Firefox through WebDriver BiDi.
+ * A request matching a stub gets the canned response; otherwise, when an allowlist is configured only
+ * matching URLs load, and URLs matching the blocklist get an empty response without hitting the network.
+ *
+ * Configuration (config.properties), patterns are comma-separated globs where '*' matches anything:
+ * network.block.patterns - e.g. *google-analytics.com*,*.woff2,*fonts.googleapis.com*
+ * network.allow.patterns - when set, every other URL is blocked
+ * network.stubs.file     - JSON list of {"url": glob, "status": 200, "contentType": "...", "body" | "bodyFile": "..."}
+ */
+public class NetworkInterception {
+
+    private static final Logger logger = LogManager.getLogger(NetworkInterception.class);
+    private static final int BLOCKED_STATUS = 204;
+
+    private static final AtomicLong requestsBlocked = new AtomicLong();
+    private static final AtomicLong requestsStubbed = new AtomicLong();
+    private static final AtomicLong stubBytesServed = new AtomicLong();
+
+    private static volatile Rules rules;
+
+    private NetworkInterception() {
+    }
+
+    /**
+     * Check whether any block, allow or stub rule is configured
+     */
+    public static boolean isEnabled() {
+        return !rules().isEmpty();
+    }
+
+    /**
+     * Attach interception to a freshly launched session. Must be called on the unwrapped driver.
+     */
+    static void attach(WebDriver webDriver, String browserName) {
+        if (!isEnabled()) {
+            return;
+        }
+        switch (browserName) {
+            case "chrome", "edge" -> attachDevTools(webDriver);
+            case "firefox" -> attachBiDi(webDriver);
+            default -> logger.warn("Network interception is not supported for " + browserName + ", requests are not filtered");
+        }
+    }
+
+    /**
+     * Requests blocked, requests stubbed and stub bytes served across all sessions
+     */
+    public static String getStats() {
+        return "NetworkInterception blocked=" + requestsBlocked.get() + " stubbed=" + requestsStubbed.get()
+                + " stubBytesServed=" + stubBytesServed.get();
+    }
+
+    private static void attachDevTools(WebDriver webDriver) {
+        if (!(webDriver instanceof HasDevTools)) {
+            logger.warn("Session does not expose DevTools, requests are not filtered");
+            return;
+        }
+        Rules active = rules();
+        HttpHandler handler = request -> {
+            String url = request.getUri();
+            Stub stub = active.stubFor(url);
+            if (stub != null) {
+                byte[] body = stub.bodyBytes();
+                recordStub(url, body.length);
+                return new HttpResponse()
+                        .setStatus(stub.status)
+                        .setHeader("Content-Type", stub.contentType())
+                        .setContent(Contents.bytes(body));
+            }
+            if (active.isBlocked(url)) {
+                recordBlock(url);
+                return new HttpResponse().setStatus(BLOCKED_STATUS);
+            }
+            return NetworkInterceptor.PROCEED_WITH_REQUEST;
+        };
+        // The interceptor stays registered on the DevTools connection for the life of the session
+        new NetworkInterceptor(webDriver, handler);
+        logger.info("DevTools network interception attached");
+    }
+
+    private static void attachBiDi(WebDriver webDriver) {
+        Rules active = rules();
+        Network network = new Network(webDriver);
+        network.addIntercept(new AddInterceptParameters(InterceptPhase.BEFORE_REQUEST_SENT));
+        network.onBeforeRequestSent((BeforeRequestSent event) -> {
+            if (!event.isBlocked()) {
+                return;
+            }
+            String requestId = event.getRequest().getRequestId();
+            String url = event.getRequest().getUrl();
+            Stub stub = active.stubFor(url);
+            if (stub != null) {
+                String body = stub.body();
+                recordStub(url, body.getBytes(StandardCharsets.UTF_8).length);
+                network.provideResponse(new ProvideResponseParameters(requestId)
+                        .statusCode(stub.status)
+                        .body(new BytesValue(BytesValue.Type.STRING, body)));
+            } else if (active.isBlocked(url)) {
+                recordBlock(url);
+                network.failRequest(requestId);
+            } else {
+                network.continueRequest(new ContinueRequestParameters(requestId));
+            }
+        });
+        logger.info("BiDi network interception attached");
+    }
+
+    private static void recordBlock(String url) {
+        requestsBlocked.incrementAndGet();
+        logger.debug("Blocked request: {}", url);
+    }
+
+    private static void recordStub(String url, int bytes) {
+        requestsStubbed.incrementAndGet();
+        stubBytesServed.addAndGet(bytes);
+        logger.debug("Stubbed request: {}", url);
+    }
+
+    private static Rules rules() {
+        Rules current = rules;
+        if (current == null) {
+            synchronized (NetworkInterception.class) {
+                if (rules == null) {
+                    rules = Rules.load();
+                }
+                current = rules;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Compiled block/allow patterns and stubs, loaded once from configuration
+     */
+    private static final class Rules {
+        private final List<Pattern> block;
+        private final List<Pattern> allow;
+        private final List<Stub> stubs;
+
+        private Rules(List<Pattern> block, List<Pattern> allow, List<Stub> stubs) {
+            this.block = block;
+            this.allow = allow;
+            this.stubs = stubs;
+        }
+
+        static Rules load() {
+            return new Rules(
+                    compile(ConfigReader.getProperty("network.block.patterns", "")),
+                    compile(ConfigReader.getProperty("network.allow.patterns", "")),
+                    loadStubs(ConfigReader.getProperty("network.stubs.file", "")));
+        }
+
+        boolean isEmpty() {
+            return block.isEmpty() && allow.isEmpty() && stubs.isEmpty();
+        }
+
+        boolean isBlocked(String url) {
+            if (!allow.isEmpty() && allow.stream().noneMatch(p -> p.matcher(url).matches())) {
+                return true;
+            }
+            return block.stream().anyMatch(p -> p.matcher(url).matches());
+        }
+
+        Stub stubFor(String url) {
+            for (Stub stub : stubs) {
+                if (stub.pattern().matcher(url).matches()) {
+                    return stub;
+                }
+            }
+            return null;
+        }
+
+        private static List<Pattern> compile(String globs) {
+            List<Pattern> patterns = new ArrayList<>();
+            Arrays.stream(globs.split(","))
+                    .map(String::trim)
+                    .filter(glob -> !glob.isEmpty())
+                    .forEach(glob -> patterns.add(globToPattern(glob)));
+            return patterns;
+        }
+
+        private static List<Stub> loadStubs(String file) {
+            if (file.isBlank()) {
+                return List.of();
+            }
+            try (Reader reader = Files.newBufferedReader(Paths.get(file))) {
+                List<Stub> stubs = new Gson().fromJson(reader, new TypeToken<List<Stub>>() { }.getType());
+                logger.info("Loaded " + stubs.size() + " network stub(s) from " + file);
+                return stubs;
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to read network stubs file: " + file, e);
+            }
+        }
+    }
+
+    private static Pattern globToPattern(String glob) {
+        StringBuilder regex = new StringBuilder();
+        for (String part : glob.split("\\*", -1)) {
+            if (regex.length() > 0) {
+                regex.append(".*");
+            }
+            regex.append(Pattern.quote(part));
+        }
+        return Pattern.compile(regex.toString());
+    }
+
+    /**
+     * Canned response for a URL glob, deserialized from the stubs file
+     */
+    private static final class Stub {
+        private String url;
+        private int status = 200;
+        private String contentType;
+        private String body;
+        private String bodyFile;
+        private transient Pattern pattern;
+        private transient byte[] bodyBytes;
+
+        Pattern pattern() {
+            if (pattern == null) {
+                pattern = globToPattern(url);
+            }
+            return pattern;
+        }
+
+        String contentType() {
+            return contentType == null ? "application/json" : contentType;
+        }
+
+        String body() {
+            return new String(bodyBytes(), StandardCharsets.UTF_8);
+        }
+
+        byte[] bodyBytes() {
+            if (bodyBytes == null) {
+                try {
+                    bodyBytes = bodyFile != null
+                            ? Files.readAllBytes(Path.of(bodyFile))
+                            : (body == null ? "" : body).getBytes(StandardCharsets.UTF_8);
+                } catch (IOException e) {
+                    throw new IllegalStateException("Failed to read stub body file: " + bodyFile, e);
+                }
+            }
+            return bodyBytes;
+        }
+    }
+}
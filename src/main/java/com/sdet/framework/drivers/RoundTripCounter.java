@@ -0,0 +1,81 @@
+package com.sdet.framework.drivers;
+
+import com.sdet.framework.utils.ConfigReader;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.Method;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * RoundTripCounter - counts WebDriver commands sent to the browser, per test thread and per command.
+ *
+ * Sessions created by {@link DriverFactory} are decorated with this listener so step timings
+ * (see WebDriverUtils#step) can report how many round trips a step cost. Calls that only return a
+ * local helper object (manage(), navigate(), switchTo() ...) are not counted.
+ *
+ * Configuration (config.properties):
+ * driver.roundtrip.tracking - decorate sessions with the counter (default: true)
+ */
+public class RoundTripCounter implements WebDriverListener {
+
+    private static final RoundTripCounter INSTANCE = new RoundTripCounter();
+    private static final Set<String> LOCAL_CALLS = Set.of("manage", "navigate", "switchTo", "timeouts", "window",
+            "getWrappedDriver", "getWrappedElement", "toString", "hashCode", "equals");
+    private static final ThreadLocal<long[]> perThread = ThreadLocal.withInitial(() -> new long[1]);
+    private static final Map<String, LongAdder> perCommand = new ConcurrentHashMap<>();
+    private static final LongAdder total = new LongAdder();
+
+    private RoundTripCounter() {
+    }
+
+    /**
+     * Whether new sessions are decorated with the counter
+     */
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(ConfigReader.getProperty("driver.roundtrip.tracking", "true"));
+    }
+
+    /**
+     * The listener DriverFactory attaches to new sessions
+     */
+    static WebDriverListener listener() {
+        return INSTANCE;
+    }
+
+    /**
+     * Round trips issued so far by the current thread
+     */
+    public static long current() {
+        return perThread.get()[0];
+    }
+
+    /**
+     * Total round trips and the most frequent commands, or null when nothing was counted
+     */
+    public static String getStats() {
+        if (total.sum() == 0) {
+            return null;
+        }
+        String top = perCommand.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, LongAdder> e) -> e.getValue().sum()).reversed())
+                .limit(5)
+                .map(e -> e.getKey() + "=" + e.getValue().sum())
+                .collect(Collectors.joining(", "));
+        return "WebDriver round trips total=" + total.sum() + " top: " + top;
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if (LOCAL_CALLS.contains(method.getName())) {
+            return;
+        }
+        perThread.get()[0]++;
+        total.increment();
+        perCommand.computeIfAbsent(method.getName(), name -> new LongAdder()).increment();
+    }
+}
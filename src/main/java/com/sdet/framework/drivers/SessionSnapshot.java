@@ -0,0 +1,256 @@
+package com.sdet.framework.drivers;
+
+import com.google.gson.Gson;
+import com.sdet.framework.utils.ConfigReader;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * SessionSnapshot - authenticated browser state (cookies, localStorage and sessionStorage) captured
+ * after one real login per user and injected into later sessions instead of driving the login form.
+ *
+ * Snapshots are kept in memory for the JVM and persisted as one JSON file per user and origin, so
+ * later runs skip the login too while the snapshot is fresh. Parallel threads asking for the same
+ * user wait for a single login. A snapshot is discarded when it is older than the TTL or one of its
+ * cookies has expired; call {@link #invalidate(String)} when the application rejects it.
+ *
+ * Configuration (config.properties):
+ * session.snapshot.enabled       - inject snapshots instead of logging in through the UI (default: true)
+ * session.snapshot.dir           - directory of persisted snapshots (default: target/session-snapshots)
+ * session.snapshot.ttl.seconds   - maximum snapshot age (default: 1800)
+ * session.snapshot.landing.path  - light page on the app origin opened to inject state (default: /favicon.ico)
+ */
+public class SessionSnapshot {
+
+    private static final Logger logger = LogManager.getLogger(SessionSnapshot.class);
+    private static final Gson gson = new Gson();
+    private static final Map<String, SessionSnapshot> snapshots = new ConcurrentHashMap<>();
+    private static final Map<String, Object> userLocks = new ConcurrentHashMap<>();
+
+    private static final AtomicLong logins = new AtomicLong();
+    private static final AtomicLong restores = new AtomicLong();
+    private static final AtomicLong loadedFromDisk = new AtomicLong();
+    private static final AtomicLong restoreMillis = new AtomicLong();
+
+    private static final String READ_STORAGE_SCRIPT =
+            "var copy = function (s) { var o = {}; for (var i = 0; i < s.length; i++) { var k = s.key(i); o[k] = s.getItem(k); } return o; };"
+            + "return { local: copy(window.localStorage), session: copy(window.sessionStorage) };";
+    private static final String WRITE_STORAGE_SCRIPT =
+            "var local = arguments[0], session = arguments[1];"
+            + "for (var k in local) { window.localStorage.setItem(k, local[k]); }"
+            + "for (var k in session) { window.sessionStorage.setItem(k, session[k]); }";
+
+    private final String origin;
+    private final long capturedAt;
+    private final List<StoredCookie> cookies;
+    private final Map<String, String> localStorage;
+    private final Map<String, String> sessionStorage;
+
+    /** Cookie fields that survive a JSON round trip */
+    private record StoredCookie(String name, String value, String domain, String path, Long expiry,
+                                boolean secure, boolean httpOnly, String sameSite) {
+    }
+
+    private SessionSnapshot(String origin, long capturedAt, List<StoredCookie> cookies,
+                            Map<String, String> localStorage, Map<String, String> sessionStorage) {
+        this.origin = origin;
+        this.capturedAt = capturedAt;
+        this.cookies = cookies;
+        this.localStorage = localStorage;
+        this.sessionStorage = sessionStorage;
+    }
+
+    /**
+     * Whether UI logins are replaced by snapshot injection
+     */
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(ConfigReader.getProperty("session.snapshot.enabled", "true"));
+    }
+
+    /**
+     * Sign the driver in as the user. A fresh snapshot from memory or disk is injected; otherwise the
+     * login action runs once in this driver and its resulting state is captured for everyone else.
+     * The driver is left on the app origin; callers navigate to the page under test afterwards.
+     */
+    public static void restore(WebDriver driver, String user, Consumer<WebDriver> login) {
+        if (!isEnabled()) {
+            login.accept(driver);
+            return;
+        }
+        String key = user + "@" + originOf(ConfigReader.getApplicationUrl());
+        SessionSnapshot snapshot = snapshots.get(key);
+        if (snapshot == null || snapshot.isStale()) {
+            synchronized (userLocks.computeIfAbsent(key, k -> new Object())) {
+                snapshot = snapshots.get(key);
+                if (snapshot == null || snapshot.isStale()) {
+                    snapshot = load(key);
+                    if (snapshot == null) {
+                        login.accept(driver);
+                        logins.incrementAndGet();
+                        snapshot = capture(driver);
+                        snapshots.put(key, snapshot);
+                        save(key, snapshot);
+                        logger.info("Session snapshot captured for " + user + " (" + snapshot.cookies.size() + " cookies)");
+                        // This driver is already signed in by the real login
+                        return;
+                    }
+                    snapshots.put(key, snapshot);
+                }
+            }
+        }
+        snapshot.applyTo(driver);
+        logger.info("Session snapshot restored for " + user);
+    }
+
+    /**
+     * Drop the user's snapshot from memory and disk so the next restore logs in again
+     */
+    public static void invalidate(String user) {
+        String key = user + "@" + originOf(ConfigReader.getApplicationUrl());
+        snapshots.remove(key);
+        try {
+            Files.deleteIfExists(fileFor(key));
+        } catch (IOException e) {
+            logger.warn("Could not delete session snapshot for " + user + ": " + e.getMessage());
+        }
+        logger.info("Session snapshot invalidated for " + user);
+    }
+
+    /**
+     * Real logins, snapshot injections and snapshots read from disk, or null when never used
+     */
+    public static String getStats() {
+        long restored = restores.get();
+        if (logins.get() == 0 && restored == 0) {
+            return null;
+        }
+        return "SessionSnapshot logins=" + logins.get() + " restores=" + restored + " loadedFromDisk=" + loadedFromDisk.get()
+                + " avgRestoreMs=" + (restored == 0 ? 0 : restoreMillis.get() / restored);
+    }
+
+    /**
+     * Capture the cookies and web storage of the driver's current origin
+     */
+    @SuppressWarnings("unchecked")
+    static SessionSnapshot capture(WebDriver driver) {
+        List<StoredCookie> cookies = new ArrayList<>();
+        for (Cookie cookie : driver.manage().getCookies()) {
+            cookies.add(new StoredCookie(cookie.getName(), cookie.getValue(), cookie.getDomain(), cookie.getPath(),
+                    cookie.getExpiry() == null ? null : cookie.getExpiry().getTime(),
+                    cookie.isSecure(), cookie.isHttpOnly(), cookie.getSameSite()));
+        }
+        Map<String, Object> storage = (Map<String, Object>) ((JavascriptExecutor) driver).executeScript(READ_STORAGE_SCRIPT);
+        return new SessionSnapshot(originOf(driver.getCurrentUrl()), System.currentTimeMillis(), cookies,
+                toStrings((Map<String, Object>) storage.get("local")), toStrings((Map<String, Object>) storage.get("session")));
+    }
+
+    /**
+     * Open a light page on the snapshot's origin (cookies and storage can only be set for the
+     * current document) and inject the captured state
+     */
+    void applyTo(WebDriver driver) {
+        long start = System.nanoTime();
+        driver.navigate().to(origin + ConfigReader.getProperty("session.snapshot.landing.path", "/favicon.ico"));
+        for (StoredCookie stored : cookies) {
+            Cookie.Builder cookie = new Cookie.Builder(stored.name(), stored.value())
+                    .path(stored.path())
+                    .isSecure(stored.secure())
+                    .isHttpOnly(stored.httpOnly());
+            if (stored.domain() != null) {
+                cookie.domain(stored.domain());
+            }
+            if (stored.expiry() != null) {
+                cookie.expiresOn(new Date(stored.expiry()));
+            }
+            if (stored.sameSite() != null) {
+                cookie.sameSite(stored.sameSite());
+            }
+            driver.manage().addCookie(cookie.build());
+        }
+        if (!localStorage.isEmpty() || !sessionStorage.isEmpty()) {
+            ((JavascriptExecutor) driver).executeScript(WRITE_STORAGE_SCRIPT, localStorage, sessionStorage);
+        }
+        restores.incrementAndGet();
+        restoreMillis.addAndGet((System.nanoTime() - start) / 1_000_000);
+    }
+
+    private boolean isStale() {
+        long ttlMillis = Long.parseLong(ConfigReader.getProperty("session.snapshot.ttl.seconds", "1800")) * 1000;
+        long now = System.currentTimeMillis();
+        if (now - capturedAt > ttlMillis) {
+            return true;
+        }
+        return cookies.stream().anyMatch(cookie -> cookie.expiry() != null && cookie.expiry() <= now);
+    }
+
+    private static SessionSnapshot load(String key) {
+        Path file = fileFor(key);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            SessionSnapshot snapshot = gson.fromJson(reader, SessionSnapshot.class);
+            if (snapshot == null || snapshot.cookies == null || snapshot.isStale()) {
+                return null;
+            }
+            loadedFromDisk.incrementAndGet();
+            return snapshot;
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Ignoring unreadable session snapshot " + file + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static void save(String key, SessionSnapshot snapshot) {
+        Path file = fileFor(key);
+        try {
+            Files.createDirectories(file.getParent());
+            Path temp = Files.createTempFile(file.getParent(), "snapshot", ".tmp");
+            try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                gson.toJson(snapshot, writer);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warn("Could not persist session snapshot " + file + ": " + e.getMessage());
+        }
+    }
+
+    private static Path fileFor(String key) {
+        return Paths.get(ConfigReader.getProperty("session.snapshot.dir", "target/session-snapshots"))
+                .resolve(key.replaceAll("[^A-Za-z0-9._-]", "_") + ".json");
+    }
+
+    private static String originOf(String url) {
+        URI uri = URI.create(url);
+        return uri.getScheme() + "://" + uri.getRawAuthority();
+    }
+
+    private static Map<String, String> toStrings(Map<String, Object> values) {
+        Map<String, String> strings = new LinkedHashMap<>();
+        if (values != null) {
+            values.forEach((name, value) -> strings.put(name, String.valueOf(value)));
+        }
+        return strings;
+    }
+}
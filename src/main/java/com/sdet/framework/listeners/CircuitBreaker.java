@@ -0,0 +1,228 @@
+package com.sdet.framework.listeners;
+
+import com.sdet.framework.utils.ConfigReader;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IConfigurationListener;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import org.testng.SkipException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * CircuitBreaker - stops a run that cannot succeed instead of letting every test wait out its timeouts.
+ *
+ * The breaker opens for the whole suite when the failure rate of the last circuit.window finished tests
+ * (a failed setup counts as a failure) reaches circuit.failure.rate, or when the suite-wide health probe (circuit.health.url) fails at start.
+ * A test block can declare its own probe with a "health.probe" parameter in the suite XML (a URL or a
+ * config key such as app.url); it is checked when the block starts and again after a failure in it
+ * (at most every circuit.health.recheck.ms), and only that block is cut off when it fails.
+ *
+ * While open, remaining tests and their setup (@BeforeClass / @BeforeMethod) are skipped at once, so no
+ * browser is launched; teardown still runs. ProgrammaticTestNG exits with code 3 when the breaker tripped.
+ *
+ * Configuration (config.properties):
+ * circuit.enabled             - skip the rest of the run once the breaker opens (default: true)
+ * circuit.window              - finished tests the failure rate is computed over (default: 10)
+ * circuit.min.results         - finished tests needed before the rate can open the breaker (default: 5)
+ * circuit.failure.rate        - failure rate that opens the breaker, 0-1 (default: 0.8)
+ * circuit.health.url          - probed once before the suite, empty = none (default: empty)
+ * circuit.health.timeout.ms   - health probe timeout (default: 3000)
+ * circuit.health.recheck.ms   - minimum time between probes of one block after failures (default: 10000)
+ */
+public class CircuitBreaker implements ISuiteListener, ITestListener, IInvokedMethodListener, IConfigurationListener {
+
+    private static final Logger logger = LogManager.getLogger(CircuitBreaker.class);
+    private static final AtomicReference<String> tripReason = new AtomicReference<>();
+    private static final AtomicLong skipped = new AtomicLong();
+    private static final Map<String, String> downBlocks = new ConcurrentHashMap<>();
+
+    private final boolean enabled = Boolean.parseBoolean(ConfigReader.getProperty("circuit.enabled", "true"));
+    private final FailureWindow failures = new FailureWindow(
+            Integer.parseInt(ConfigReader.getProperty("circuit.window", "10")),
+            Integer.parseInt(ConfigReader.getProperty("circuit.min.results", "5")),
+            Double.parseDouble(ConfigReader.getProperty("circuit.failure.rate", "0.8")));
+    private final Map<String, Long> lastProbe = new ConcurrentHashMap<>();
+
+    /** Outcomes of the last finished tests; reports when their failure rate reaches the limit */
+    public static class FailureWindow {
+
+        private final int size;
+        private final int minResults;
+        private final double failureRate;
+        private final Deque<Boolean> outcomes = new ArrayDeque<>();
+
+        public FailureWindow(int size, int minResults, double failureRate) {
+            this.size = Math.max(1, size);
+            this.minResults = Math.max(1, Math.min(minResults, this.size));
+            this.failureRate = failureRate;
+        }
+
+        /**
+         * Add an outcome; returns why the breaker should open, or null while the rate is below the limit
+         */
+        public synchronized String record(boolean failed) {
+            outcomes.addLast(failed);
+            if (outcomes.size() > size) {
+                outcomes.removeFirst();
+            }
+            long failedCount = outcomes.stream().filter(Boolean::booleanValue).count();
+            if (outcomes.size() >= minResults && failedCount >= failureRate * outcomes.size()) {
+                return failedCount + " of the last " + outcomes.size() + " tests failed";
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Why the breaker opened for the whole suite or a test block, or null while it is closed
+     */
+    public static String tripReason() {
+        String reason = tripReason.get();
+        if (reason == null && !downBlocks.isEmpty()) {
+            Map.Entry<String, String> block = downBlocks.entrySet().iterator().next();
+            reason = "test block '" + block.getKey() + "': " + block.getValue();
+        }
+        return reason;
+    }
+
+    /**
+     * Trip reason and number of skipped tests and setups, or null when the breaker never opened
+     */
+    public static String getStats() {
+        String reason = tripReason();
+        if (reason == null && skipped.get() == 0) {
+            return null;
+        }
+        return "CircuitBreaker " + (reason != null ? "open (" + reason + ")" : "closed") + " skipped=" + skipped.get();
+    }
+
+    /**
+     * Null when the URL answers below 500 within the timeout, otherwise why it is considered down
+     */
+    public static String probe(String url) {
+        Duration timeout = Duration.ofMillis(Long.parseLong(ConfigReader.getProperty("circuit.health.timeout.ms", "3000")));
+        try {
+            HttpClient client = HttpClient.newBuilder().connectTimeout(timeout).followRedirects(HttpClient.Redirect.NORMAL).build();
+            HttpRequest request = HttpRequest.newBuilder(URI.create(url)).timeout(timeout)
+                    .method("HEAD", HttpRequest.BodyPublishers.noBody()).build();
+            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            return status < 500 ? null : "health probe " + url + " returned " + status;
+        } catch (IOException | IllegalArgumentException e) {
+            return "health probe " + url + " failed: " + e.getClass().getSimpleName();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "health probe " + url + " interrupted";
+        }
+    }
+
+    @Override
+    public void onStart(ISuite suite) {
+        tripReason.set(null);
+        downBlocks.clear();
+        skipped.set(0);
+        String url = ConfigReader.getProperty("circuit.health.url", "");
+        if (enabled && !url.isBlank()) {
+            String down = probe(url.trim());
+            if (down != null) {
+                trip(down);
+            }
+        }
+    }
+
+    @Override
+    public void onStart(ITestContext context) {
+        String url = healthUrl(context);
+        if (enabled && url != null) {
+            probeBlock(context.getName(), url);
+        }
+    }
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        ITestNGMethod testMethod = method.getTestMethod();
+        if (!enabled || !(method.isTestMethod() || testMethod.isBeforeMethodConfiguration()
+                || testMethod.isBeforeClassConfiguration())) {
+            return;
+        }
+        String reason = tripReason.get();
+        if (reason == null) {
+            reason = downBlocks.get(testResult.getTestContext().getName());
+        }
+        if (reason != null) {
+            skipped.incrementAndGet();
+            throw new SkipException("Circuit breaker open: " + reason);
+        }
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        failures.record(false);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        recordFailure(result);
+    }
+
+    @Override
+    public void onConfigurationFailure(ITestResult result) {
+        if (result.getMethod().isBeforeMethodConfiguration() || result.getMethod().isBeforeClassConfiguration()) {
+            recordFailure(result);
+        }
+    }
+
+    private void recordFailure(ITestResult result) {
+        String reason = failures.record(true);
+        if (enabled && reason != null) {
+            trip(reason);
+        }
+        ITestContext context = result.getTestContext();
+        String url = healthUrl(context);
+        long now = System.currentTimeMillis();
+        long recheck = Long.parseLong(ConfigReader.getProperty("circuit.health.recheck.ms", "10000"));
+        if (enabled && url != null && now - lastProbe.getOrDefault(context.getName(), 0L) >= recheck) {
+            probeBlock(context.getName(), url);
+        }
+    }
+
+    private void probeBlock(String block, String url) {
+        lastProbe.put(block, System.currentTimeMillis());
+        String down = probe(url);
+        if (down != null && downBlocks.putIfAbsent(block, down) == null) {
+            logger.error("Circuit breaker open for test block '" + block + "': " + down);
+        }
+    }
+
+    private void trip(String reason) {
+        if (tripReason.compareAndSet(null, reason)) {
+            logger.error("Circuit breaker open, skipping the rest of the suite: " + reason);
+        }
+    }
+
+    private static String healthUrl(ITestContext context) {
+        String probe = context.getCurrentXmlTest().getParameter("health.probe");
+        if (probe == null || probe.isBlank()) {
+            return null;
+        }
+        return probe.contains("://") ? probe.trim() : ConfigReader.getProperty(probe.trim());
+    }
+}
@@ -0,0 +1,53 @@
+package com.sdet.framework.listeners;
+
+import com.sdet.framework.drivers.DriverFactory;
+import com.sdet.framework.drivers.DriverPool;
+import com.sdet.framework.utils.ConfigReader;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.xml.XmlSuite;
+
+/**
+ * DriverPrewarmListener - launches browser sessions in the background before the first test
+ * so worker threads don't block on browser startup, and logs startup latency per browser
+ * type when the suite finishes.
+ *
+ * Configuration (config.properties):
+ * driver.prewarm.enabled - enable pre-warming (default: false)
+ * driver.prewarm.count   - sessions to launch; 0 uses the suite thread-count (default: 0)
+ */
+public class DriverPrewarmListener implements ISuiteListener {
+
+    private static final Logger logger = LogManager.getLogger(DriverPrewarmListener.class);
+
+    @Override
+    public void onStart(ISuite suite) {
+        if (!Boolean.parseBoolean(ConfigReader.getProperty("driver.prewarm.enabled", "false"))) {
+            return;
+        }
+        int count = Integer.parseInt(ConfigReader.getProperty("driver.prewarm.count", "0"));
+        if (count <= 0) {
+            count = suiteThreadCount(suite.getXmlSuite());
+        }
+        DriverFactory.prewarm(ConfigReader.getBrowser(), count);
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        DriverFactory.discardPrewarmed();
+        logger.info("Browser startup latency for suite '{}':", suite.getName());
+        DriverFactory.getStartupSummary().forEach(line -> logger.info("  {}", line));
+        if (DriverPool.isEnabled()) {
+            DriverPool.getAllStats().forEach(line -> logger.info("  {}", line));
+        }
+    }
+
+    private static int suiteThreadCount(XmlSuite xmlSuite) {
+        if (xmlSuite.getParallel() == null || xmlSuite.getParallel() == XmlSuite.ParallelMode.NONE) {
+            return 1;
+        }
+        return Math.max(1, xmlSuite.getThreadCount());
+    }
+}
@@ -0,0 +1,125 @@
+package com.sdet.framework.listeners;
+
+import com.sdet.framework.utils.ConfigReader;
+import com.sdet.framework.utils.LockedFiles;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * DurationHistory - smoothed durations of test and configuration methods from earlier runs,
+ * stored as a properties file of "class#method=milliseconds".
+ *
+ * Each run's measurement is blended with the stored value (half old, half new) so one slow run
+ * does not reorder the suite. Writes go through a lock file and an atomic move, so parallel JVMs
+ * (e.g. shards on one machine) don't clobber each other.
+ *
+ * Configuration (config.properties):
+ * test.history.file        - history location (default: .test-history/durations.properties)
+ * test.history.default.ms  - assumed duration of a class without history (default: 10000)
+ */
+public class DurationHistory {
+
+    private static final Logger logger = LogManager.getLogger(DurationHistory.class);
+    private static final double NEW_RUN_WEIGHT = 0.5;
+
+    private final Path file;
+    private final Map<String, Long> millis = new ConcurrentHashMap<>();
+
+    /**
+     * History backed by the given file (read immediately when it exists)
+     */
+    public DurationHistory(Path file) {
+        this.file = file;
+        millis.putAll(read(file));
+    }
+
+    /**
+     * History at the configured location
+     */
+    public static DurationHistory load() {
+        return new DurationHistory(Paths.get(ConfigReader.getProperty("test.history.file", ".test-history/durations.properties")));
+    }
+
+    /**
+     * Whether any durations are known
+     */
+    public boolean isEmpty() {
+        return millis.isEmpty();
+    }
+
+    /**
+     * Smoothed duration of one method, or -1 when unknown
+     */
+    public long methodMillis(String className, String methodName) {
+        return millis.getOrDefault(className + "#" + methodName, -1L);
+    }
+
+    /**
+     * Expected duration of a class: the sum of its recorded methods, or test.history.default.ms when unknown
+     */
+    public long classMillis(String className) {
+        String prefix = className + "#";
+        long total = 0;
+        boolean known = false;
+        for (Map.Entry<String, Long> entry : millis.entrySet()) {
+            if (entry.getKey().startsWith(prefix)) {
+                total += entry.getValue();
+                known = true;
+            }
+        }
+        return known ? total : Long.parseLong(ConfigReader.getProperty("test.history.default.ms", "10000"));
+    }
+
+    /**
+     * Blend this run's durations into the history and write it back, merging with any history
+     * another JVM wrote in the meantime
+     */
+    public void update(Map<String, Long> observed) {
+        if (observed.isEmpty()) {
+            return;
+        }
+        try {
+            Map<String, Long> merged = LockedFiles.update(file, () -> {
+                Map<String, Long> values = read(file);
+                observed.forEach((key, value) -> values.merge(key, value,
+                        (old, current) -> Math.round(old * (1 - NEW_RUN_WEIGHT) + current * NEW_RUN_WEIGHT)));
+                return values;
+            }, (values, out) -> {
+                Properties properties = new Properties();
+                values.forEach((key, value) -> properties.setProperty(key, String.valueOf(value)));
+                properties.store(out, "Smoothed test durations in ms (class#method)");
+            });
+            millis.clear();
+            millis.putAll(merged);
+            logger.info("Recorded " + observed.size() + " durations in " + file);
+        } catch (IOException e) {
+            logger.warn("Could not update test duration history " + file + ": " + e.getMessage());
+        }
+    }
+
+    private static Map<String, Long> read(Path file) {
+        Map<String, Long> values = new ConcurrentHashMap<>();
+        if (!Files.exists(file)) {
+            return values;
+        }
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+            for (String key : properties.stringPropertyNames()) {
+                values.put(key, Long.parseLong(properties.getProperty(key).trim()));
+            }
+        } catch (IOException | NumberFormatException e) {
+            logger.warn("Ignoring unreadable test duration history " + file + ": " + e.getMessage());
+        }
+        return values;
+    }
+}
@@ -0,0 +1,185 @@
+package com.sdet.framework.listeners;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IAlterSuiteListener;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongFunction;
+
+/**
+ * DurationScheduler - records how long every test class takes and uses that history to run the
+ * slowest work first and to split the suite into balanced shards.
+ *
+ * - Before the suite starts, each test block's classes and the test blocks themselves are ordered
+ *   longest-first, so slow UI classes start early instead of ending up as stragglers.
+ * - Methods are ordered longest-first; in parallel="methods" blocks across classes, otherwise within
+ *   each class so class-level setup stays grouped.
+ * - With -Dshard=i/N (1-based) only the classes of shard i run. Classes are assigned longest-first to
+ *   the shard with the least expected time, so every node computes the same split from the same
+ *   history file; restore the same .test-history on every CI node.
+ * - Test and configuration method durations of this run are blended into {@link DurationHistory}
+ *   when the suite finishes.
+ */
+public class DurationScheduler implements IAlterSuiteListener, IMethodInterceptor, IInvokedMethodListener, ISuiteListener {
+
+    private static final Logger logger = LogManager.getLogger(DurationScheduler.class);
+
+    private final DurationHistory history = DurationHistory.load();
+    private final Map<String, Long> observed = new ConcurrentHashMap<>();
+
+    /** Parsed -Dshard=i/N, with a 0-based index */
+    public record Shard(int index, int count) {
+
+        /**
+         * Parse "i/N" (1-based i); null when the value is blank
+         */
+        public static Shard parse(String value) {
+            if (value == null || value.isBlank()) {
+                return null;
+            }
+            String[] parts = value.trim().split("/");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("shard must look like i/N, e.g. 2/4: " + value);
+            }
+            int index = Integer.parseInt(parts[0].trim());
+            int count = Integer.parseInt(parts[1].trim());
+            if (count < 1 || index < 1 || index > count) {
+                throw new IllegalArgumentException("shard index must be between 1 and N: " + value);
+            }
+            return new Shard(index - 1, count);
+        }
+
+        @Override
+        public String toString() {
+            return (index + 1) + "/" + count;
+        }
+    }
+
+    /**
+     * Assign classes to shards longest-first, each to the shard with the least expected time so far.
+     * Ties are broken by class name and lowest shard, so the result depends only on the inputs.
+     */
+    public static Map<String, Integer> assignShards(Collection<String> classNames, ToLongFunction<String> expectedMillis,
+                                                    int shardCount) {
+        List<String> ordered = new ArrayList<>(new LinkedHashSet<>(classNames));
+        ordered.sort(Comparator.comparingLong(expectedMillis).reversed().thenComparing(Comparator.naturalOrder()));
+        long[] totals = new long[shardCount];
+        Map<String, Integer> assignment = new LinkedHashMap<>();
+        for (String className : ordered) {
+            int lightest = 0;
+            for (int shard = 1; shard < shardCount; shard++) {
+                if (totals[shard] < totals[lightest]) {
+                    lightest = shard;
+                }
+            }
+            totals[lightest] += expectedMillis.applyAsLong(className);
+            assignment.put(className, lightest);
+        }
+        return assignment;
+    }
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        Shard shard = Shard.parse(System.getProperty("shard"));
+        for (XmlSuite suite : suites) {
+            if (shard != null) {
+                applyShard(suite, shard);
+            }
+            if (history.isEmpty()) {
+                continue;
+            }
+            for (XmlTest test : suite.getTests()) {
+                test.getXmlClasses().sort(Comparator.comparingLong((XmlClass xmlClass) -> history.classMillis(xmlClass.getName())).reversed());
+            }
+            suite.getTests().sort(Comparator.comparingLong(this::testMillis).reversed());
+        }
+        if (history.isEmpty()) {
+            logger.info("No test duration history yet; keeping suite order (durations are recorded for the next run)");
+        }
+    }
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        Comparator<IMethodInstance> slowestFirst = Comparator.comparingLong(this::methodMillis).reversed();
+        List<IMethodInstance> ordered = new ArrayList<>(methods);
+        if (context.getCurrentXmlTest().getParallel() == XmlSuite.ParallelMode.METHODS) {
+            ordered.sort(slowestFirst);
+            return ordered;
+        }
+        Map<String, List<IMethodInstance>> byClass = new LinkedHashMap<>();
+        for (IMethodInstance method : methods) {
+            byClass.computeIfAbsent(method.getMethod().getRealClass().getName(), name -> new ArrayList<>()).add(method);
+        }
+        List<String> classes = new ArrayList<>(byClass.keySet());
+        classes.sort(Comparator.comparingLong(history::classMillis).reversed());
+        ordered.clear();
+        for (String className : classes) {
+            List<IMethodInstance> classMethods = byClass.get(className);
+            classMethods.sort(slowestFirst);
+            ordered.addAll(classMethods);
+        }
+        return ordered;
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult result) {
+        ITestNGMethod testMethod = method.getTestMethod();
+        String name = method.isTestMethod() ? testMethod.getMethodName() : "@" + testMethod.getMethodName();
+        // Data-driven methods (e.g. Cucumber scenarios) add up across invocations
+        observed.merge(testMethod.getRealClass().getName() + "#" + name, result.getEndMillis() - result.getStartMillis(), Long::sum);
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        history.update(new HashMap<>(observed));
+        observed.clear();
+    }
+
+    private void applyShard(XmlSuite suite, Shard shard) {
+        List<String> classNames = new ArrayList<>();
+        for (XmlTest test : suite.getTests()) {
+            test.getXmlClasses().forEach(xmlClass -> classNames.add(xmlClass.getName()));
+        }
+        Map<String, Integer> assignment = assignShards(classNames, history::classMillis, shard.count());
+        Set<String> kept = new LinkedHashSet<>();
+        for (XmlTest test : suite.getTests()) {
+            test.getXmlClasses().removeIf(xmlClass -> assignment.get(xmlClass.getName()) != shard.index());
+            test.getXmlClasses().forEach(xmlClass -> kept.add(xmlClass.getName()));
+        }
+        suite.getTests().removeIf(test -> test.getXmlClasses().isEmpty());
+        long expected = kept.stream().mapToLong(history::classMillis).sum();
+        logger.info("Shard {} of suite '{}': {} classes, ~{} s expected: {}", shard, suite.getName(), kept.size(),
+                expected / 1000, kept);
+    }
+
+    private long testMillis(XmlTest test) {
+        return test.getXmlClasses().stream().mapToLong(xmlClass -> history.classMillis(xmlClass.getName())).sum();
+    }
+
+    private long methodMillis(IMethodInstance method) {
+        ITestNGMethod testMethod = method.getMethod();
+        return history.methodMillis(testMethod.getRealClass().getName(), testMethod.getMethodName());
+    }
+}
@@ -0,0 +1,39 @@
+package com.sdet.framework.listeners;
+
+import com.sdet.framework.utils.Metrics;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+
+/**
+ * MetricsListener - attributes {@link Metrics} timings to the running test class and method, and writes
+ * the JSON and Prometheus reports (metrics.dir) when the suite finishes. Configuration methods count
+ * towards their class but not towards a test method.
+ */
+public class MetricsListener implements IInvokedMethodListener, ISuiteListener {
+
+    @Override
+    public void onStart(ISuite suite) {
+        Metrics.reset();
+    }
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        ITestNGMethod testMethod = method.getTestMethod();
+        Metrics.begin(new Metrics.Scope(testMethod.getRealClass().getName(),
+                method.isTestMethod() ? testMethod.getMethodName() : null));
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        Metrics.end();
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        Metrics.writeReports(suite.getName());
+    }
+}
@@ -0,0 +1,148 @@
+package com.sdet.framework.listeners;
+
+import com.sdet.framework.utils.ConfigReader;
+import com.sdet.framework.utils.LockedFiles;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * QuarantineList - recent outcomes of every test method, stored as a properties file of
+ * "class#method=PPFP..." (P = passed attempt, F = failed attempt, oldest first).
+ *
+ * A test is quarantined (known flaky) when its recent outcomes flip between pass and fail at least
+ * quarantine.flip.threshold times, e.g. "PPFPPFP", or when it is pinned in quarantine.pinned. A test
+ * that keeps passing drops out again once the flips leave the history window; a test that always fails
+ * is broken rather than flaky and never qualifies. Writes go through a lock file and an atomic move like
+ * {@link DurationHistory}.
+ *
+ * Configuration (config.properties):
+ * quarantine.file            - outcome history location (default: .test-history/quarantine.properties)
+ * quarantine.history.size    - outcomes kept per test (default: 20)
+ * quarantine.flip.threshold  - pass/fail flips that quarantine a test (default: 2)
+ * quarantine.pinned          - comma-separated class or class#method names always quarantined (default: empty)
+ */
+public class QuarantineList {
+
+    private static final Logger logger = LogManager.getLogger(QuarantineList.class);
+
+    private final Path file;
+    private final Map<String, String> outcomes = new ConcurrentHashMap<>();
+
+    /**
+     * List backed by the given file (read immediately when it exists)
+     */
+    public QuarantineList(Path file) {
+        this.file = file;
+        outcomes.putAll(read(file));
+    }
+
+    /**
+     * List at the configured location
+     */
+    public static QuarantineList load() {
+        return new QuarantineList(Paths.get(ConfigReader.getProperty("quarantine.file", ".test-history/quarantine.properties")));
+    }
+
+    /**
+     * Whether the test method is known to be flaky
+     */
+    public boolean isQuarantined(String className, String methodName) {
+        Set<String> pinned = pinned();
+        if (pinned.contains(className) || pinned.contains(className + "#" + methodName)) {
+            return true;
+        }
+        int threshold = Integer.parseInt(ConfigReader.getProperty("quarantine.flip.threshold", "2"));
+        return flips(outcomes.getOrDefault(className + "#" + methodName, "")) >= threshold;
+    }
+
+    /**
+     * Every quarantined test in the history, plus pinned names
+     */
+    public Set<String> quarantined() {
+        Set<String> names = new TreeSet<>(pinned());
+        outcomes.keySet().stream()
+                .filter(key -> isQuarantined(key.substring(0, key.indexOf('#')), key.substring(key.indexOf('#') + 1)))
+                .forEach(names::add);
+        return names;
+    }
+
+    /**
+     * Number of pass/fail changes in an outcome history
+     */
+    public static int flips(String history) {
+        int flips = 0;
+        for (int i = 1; i < history.length(); i++) {
+            if (history.charAt(i) != history.charAt(i - 1)) {
+                flips++;
+            }
+        }
+        return flips;
+    }
+
+    /**
+     * Append this run's outcomes ("class#method" -> attempts in order) and write the history back,
+     * merging with outcomes another JVM wrote in the meantime
+     */
+    public void update(Map<String, String> observed) {
+        if (observed.isEmpty()) {
+            return;
+        }
+        int size = Integer.parseInt(ConfigReader.getProperty("quarantine.history.size", "20"));
+        try {
+            Map<String, String> merged = LockedFiles.update(file, () -> {
+                Map<String, String> values = read(file);
+                observed.forEach((key, attempts) -> values.merge(key, attempts, (old, current) -> {
+                    String combined = old + current;
+                    return combined.substring(Math.max(0, combined.length() - size));
+                }));
+                return values;
+            }, (values, out) -> {
+                Properties properties = new Properties();
+                values.forEach(properties::setProperty);
+                properties.store(out, "Recent test outcomes, oldest first (P = passed, F = failed attempt)");
+            });
+            outcomes.clear();
+            outcomes.putAll(merged);
+            logger.info("Recorded outcomes of " + observed.size() + " tests in " + file);
+        } catch (IOException e) {
+            logger.warn("Could not update quarantine history " + file + ": " + e.getMessage());
+        }
+    }
+
+    private static Set<String> pinned() {
+        return Arrays.stream(ConfigReader.getProperty("quarantine.pinned", "").split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .collect(Collectors.toSet());
+    }
+
+    private static Map<String, String> read(Path file) {
+        Map<String, String> values = new ConcurrentHashMap<>();
+        if (!Files.exists(file)) {
+            return values;
+        }
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+            for (String key : properties.stringPropertyNames()) {
+                values.put(key, properties.getProperty(key).trim());
+            }
+        } catch (IOException e) {
+            logger.warn("Ignoring unreadable quarantine history " + file + ": " + e.getMessage());
+        }
+        return values;
+    }
+}
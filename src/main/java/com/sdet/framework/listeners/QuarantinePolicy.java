@@ -0,0 +1,124 @@
+package com.sdet.framework.listeners;
+
+import com.sdet.framework.utils.ConfigReader;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IAnnotationTransformer;
+import org.testng.IRetryAnalyzer;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import org.testng.annotations.ITestAnnotation;
+import org.testng.internal.annotations.DisabledRetryAnalyzer;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * QuarantinePolicy - bounded retries for known-flaky tests only.
+ *
+ * Every test without its own retryAnalyzer gets {@link Retry}, which re-runs a failed attempt up to
+ * retry.max.attempts times when the test is quarantined in the {@link QuarantineList}, and never while
+ * the {@link CircuitBreaker} is open. Other failures fail at once, so retries don't hide new breakage.
+ * The outcome of every attempt is appended to the quarantine history when the suite finishes, which
+ * is how tests enter and leave quarantine. Data-driven methods (e.g. Cucumber scenarios) share one entry.
+ *
+ * Configuration (config.properties):
+ * retry.max.attempts - retries of a failed quarantined test, 0 = off (default: 2)
+ */
+public class QuarantinePolicy implements IAnnotationTransformer, ITestListener, ISuiteListener {
+
+    private static final Logger logger = LogManager.getLogger(QuarantinePolicy.class);
+    private static final AtomicLong retries = new AtomicLong();
+    private static volatile QuarantineList quarantine;
+
+    private final Map<String, String> observed = new ConcurrentHashMap<>();
+
+    /** Retries a failed attempt of a quarantined test, at most retry.max.attempts times per test */
+    public static class Retry implements IRetryAnalyzer {
+
+        private int attempts;
+
+        @Override
+        public boolean retry(ITestResult result) {
+            int maxAttempts = Integer.parseInt(ConfigReader.getProperty("retry.max.attempts", "2"));
+            if (attempts >= maxAttempts || CircuitBreaker.tripReason() != null
+                    || !quarantine().isQuarantined(result.getTestClass().getName(), result.getMethod().getMethodName())) {
+                return false;
+            }
+            attempts++;
+            retries.incrementAndGet();
+            logger.warn("Retrying quarantined test " + key(result) + " (attempt " + (attempts + 1) + " of "
+                    + (maxAttempts + 1) + "): " + result.getThrowable());
+            return true;
+        }
+    }
+
+    /**
+     * Retries of quarantined tests in this JVM, or null when there were none
+     */
+    public static String getStats() {
+        return retries.get() == 0 ? null : "QuarantinePolicy retries=" + retries.get();
+    }
+
+    private static QuarantineList quarantine() {
+        QuarantineList list = quarantine;
+        if (list == null) {
+            list = QuarantineList.load();
+            quarantine = list;
+        }
+        return list;
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public void transform(ITestAnnotation annotation, Class testClass, Constructor testConstructor, Method testMethod) {
+        Class<? extends IRetryAnalyzer> current = annotation.getRetryAnalyzerClass();
+        if (current == null || current == DisabledRetryAnalyzer.class) {
+            annotation.setRetryAnalyzer(Retry.class);
+        }
+    }
+
+    @Override
+    public void onStart(ISuite suite) {
+        quarantine = QuarantineList.load();
+        Set<String> names = quarantine.quarantined();
+        if (!names.isEmpty()) {
+            logger.info("Quarantined (retried on failure): " + names);
+        }
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        observed.merge(key(result), "P", String::concat);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        observed.merge(key(result), "F", String::concat);
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        // A failed attempt that is retried is reported as skipped
+        if (result.wasRetried()) {
+            observed.merge(key(result), "F", String::concat);
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        quarantine().update(new HashMap<>(observed));
+        observed.clear();
+    }
+
+    private static String key(ITestResult result) {
+        return result.getTestClass().getName() + "#" + result.getMethod().getMethodName();
+    }
+}
@@ -0,0 +1,86 @@
+package com.sdet.framework.listeners;
+
+import com.sdet.framework.api.JsonPathExpression;
+import com.sdet.framework.api.ResponseCache;
+import com.sdet.framework.api.StubServer;
+import com.sdet.framework.api.TokenCache;
+import com.sdet.framework.drivers.NetworkInterception;
+import com.sdet.framework.drivers.RoundTripCounter;
+import com.sdet.framework.drivers.SessionSnapshot;
+import com.sdet.framework.utils.DomWait;
+import com.sdet.framework.utils.ElementCache;
+import com.sdet.framework.utils.Metrics;
+import com.sdet.framework.utils.WaitPolicy;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+/**
+ * RunSummaryListener - logs framework counters when a suite finishes
+ */
+public class RunSummaryListener implements ISuiteListener {
+
+    private static final Logger logger = LogManager.getLogger(RunSummaryListener.class);
+
+    @Override
+    public void onStart(ISuite suite) {
+        ResponseCache.resetSharedStats();
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        logger.info("Run summary for suite '{}':", suite.getName());
+        if (NetworkInterception.isEnabled()) {
+            logger.info("  {}", NetworkInterception.getStats());
+        }
+        String roundTripStats = RoundTripCounter.getStats();
+        if (roundTripStats != null) {
+            logger.info("  {}", roundTripStats);
+        }
+        String waitStats = DomWait.getStats();
+        if (waitStats != null) {
+            logger.info("  {}", waitStats);
+        }
+        String elementStats = ElementCache.getStats();
+        if (elementStats != null) {
+            logger.info("  {}", elementStats);
+        }
+        String policyStats = WaitPolicy.getStats();
+        if (policyStats != null) {
+            logger.info("  {}", policyStats);
+        }
+        String sessionStats = SessionSnapshot.getStats();
+        if (sessionStats != null) {
+            logger.info("  {}", sessionStats);
+        }
+        String cacheStats = ResponseCache.getSharedStats();
+        if (cacheStats != null) {
+            logger.info("  {}", cacheStats);
+        }
+        String tokenStats = TokenCache.getSharedStats();
+        if (tokenStats != null) {
+            logger.info("  {}", tokenStats);
+        }
+        String pathStats = JsonPathExpression.getCacheStats();
+        if (pathStats != null) {
+            logger.info("  {}", pathStats);
+        }
+        String stubStats = StubServer.getSharedStats();
+        if (stubStats != null) {
+            logger.info("  {}", stubStats);
+        }
+        String breakerStats = CircuitBreaker.getStats();
+        if (breakerStats != null) {
+            logger.info("  {}", breakerStats);
+        }
+        String retryStats = QuarantinePolicy.getStats();
+        if (retryStats != null) {
+            logger.info("  {}", retryStats);
+        }
+        String metricStats = Metrics.getStats();
+        if (metricStats != null) {
+            logger.info("  {}", metricStats);
+        }
+    }
+}
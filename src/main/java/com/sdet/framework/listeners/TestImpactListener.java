@@ -0,0 +1,49 @@
+package com.sdet.framework.listeners;
+
+import com.sdet.framework.utils.ConfigReader;
+import com.sdet.framework.utils.TestImpact;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestResult;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * TestImpactListener - records the page objects, locators and endpoints every test class touches
+ * (test and configuration methods alike) and stores them in the {@link TestImpactMap} when the suite
+ * finishes. ProgrammaticTestNG uses the map to run only the tests affected by a change.
+ *
+ * Configuration (config.properties):
+ * test.impact.recording - record dependencies during the run (default: true)
+ */
+public class TestImpactListener implements IInvokedMethodListener, ISuiteListener {
+
+    private final boolean enabled = Boolean.parseBoolean(ConfigReader.getProperty("test.impact.recording", "true"));
+    private final Map<String, Set<String>> observed = new ConcurrentHashMap<>();
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (enabled) {
+            TestImpact.begin(observed.computeIfAbsent(method.getTestMethod().getRealClass().getName(),
+                    name -> ConcurrentHashMap.newKeySet()));
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        TestImpact.end();
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (enabled) {
+            TestImpactMap.load().update(new HashMap<>(observed));
+            observed.clear();
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.sdet.framework.listeners;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import com.sdet.framework.utils.ConfigReader;
+import com.sdet.framework.utils.LockedFiles;
+import com.sdet.framework.utils.TestImpact;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+/**
+ * TestImpactMap - which page objects, locators and endpoints each test class touched in its last run,
+ * stored as JSON of "class -> [dependency, ...]" (see {@link TestImpact} for the dependency format).
+ *
+ * {@link #select} picks the test classes affected by a set of changed files and endpoints:
+ * - a changed test class selects itself, a changed page object selects every class that used it
+ * - a changed endpoint ("GET /users/{id}", "/users", "POST /users/*") selects every class that called a
+ *   matching request; {x} and * match one path segment and a shorter pattern also covers sub-paths
+ * - files matching test.impact.ignore.pattern (docs) select nothing
+ * - any other change (framework code, config, features, pom.xml) selects the full suite, since its
+ *   impact is not recorded
+ * - classes without an entry (new, or never run with recording on) are always selected
+ *
+ * Entries are replaced per class on every recorded run, so partial runs keep the other classes' entries.
+ * Writes go through a lock file and an atomic move like {@link DurationHistory}.
+ *
+ * Configuration (config.properties):
+ * test.impact.file            - map location (default: .test-history/impact-map.json)
+ * test.impact.page.package    - package whose classes are page objects (default: com.sdet.framework.pages)
+ * test.impact.ignore.pattern  - changed paths that never affect tests (default: .*\.md|docs/.*)
+ */
+public class TestImpactMap {
+
+    private static final Logger logger = LogManager.getLogger(TestImpactMap.class);
+    private static final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+    private static final String[] SOURCE_ROOTS = {"src/main/java/", "src/test/java/"};
+
+    private final Path file;
+    private final Map<String, Set<String>> dependencies;
+
+    /** Test classes to run; fullSuite means no filtering should happen */
+    public record Selection(Set<String> classes, boolean fullSuite, String reason) {
+
+        static Selection full(String reason) {
+            return new Selection(Set.of(), true, reason);
+        }
+    }
+
+    /**
+     * Map backed by the given file (read immediately when it exists)
+     */
+    public TestImpactMap(Path file) {
+        this.file = file;
+        this.dependencies = read(file);
+    }
+
+    /**
+     * Map at the configured location
+     */
+    public static TestImpactMap load() {
+        return new TestImpactMap(Paths.get(ConfigReader.getProperty("test.impact.file", ".test-history/impact-map.json")));
+    }
+
+    /**
+     * Whether any test class has been recorded
+     */
+    public boolean isEmpty() {
+        return dependencies.isEmpty();
+    }
+
+    /**
+     * Recorded dependencies of a test class, empty when unknown
+     */
+    public Set<String> dependenciesOf(String className) {
+        return dependencies.getOrDefault(className, Set.of());
+    }
+
+    /**
+     * Replace the entries of the recorded classes and write the map back, keeping entries another JVM
+     * wrote in the meantime
+     */
+    public void update(Map<String, Set<String>> observed) {
+        if (observed.isEmpty()) {
+            return;
+        }
+        try {
+            Map<String, Set<String>> merged = LockedFiles.update(file, () -> {
+                Map<String, Set<String>> values = read(file);
+                observed.forEach((className, used) -> values.put(className, new TreeSet<>(used)));
+                return values;
+            }, (values, out) -> {
+                try (Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8)) {
+                    gson.toJson(values, writer);
+                }
+            });
+            dependencies.clear();
+            dependencies.putAll(merged);
+            logger.info("Recorded dependencies of " + observed.size() + " test classes in " + file);
+        } catch (IOException e) {
+            logger.warn("Could not update test impact map " + file + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Test classes of the suite affected by the changed files (repository-relative paths) and endpoints
+     */
+    public Selection select(Collection<String> suiteClasses, Collection<String> changedFiles,
+                            Collection<String> changedEndpoints) {
+        if (dependencies.isEmpty()) {
+            return Selection.full("no test impact map yet");
+        }
+        Pattern ignored = Pattern.compile(ConfigReader.getProperty("test.impact.ignore.pattern", ".*\\.md|docs/.*"));
+        String pagePackage = ConfigReader.getProperty("test.impact.page.package", "com.sdet.framework.pages") + ".";
+        Set<String> changed = new LinkedHashSet<>();
+        for (String path : changedFiles) {
+            String normalized = path.trim().replace('\\', '/');
+            if (normalized.isEmpty() || ignored.matcher(normalized).matches()) {
+                continue;
+            }
+            String className = className(normalized);
+            if (className != null && suiteClasses.contains(className)) {
+                changed.add(className);
+            } else if (className != null && className.startsWith(pagePackage)) {
+                changed.add(TestImpact.PAGE + className);
+            } else {
+                return Selection.full("change with unrecorded impact: " + normalized);
+            }
+        }
+
+        Set<String> selected = new TreeSet<>();
+        for (String className : suiteClasses) {
+            Set<String> used = dependencies.get(className);
+            if (used == null || changed.contains(className)
+                    || used.stream().anyMatch(changed::contains)
+                    || changedEndpoints.stream().anyMatch(pattern -> usesEndpoint(used, pattern))) {
+                selected.add(className);
+            }
+        }
+        return new Selection(selected, false, changed.size() + " changed files, " + changedEndpoints.size() + " changed endpoints");
+    }
+
+    /**
+     * Whether a recorded "METHOD /path" request matches an endpoint pattern, e.g. "GET /users/{id}" or "/users"
+     */
+    static boolean endpointMatches(String pattern, String recorded) {
+        String trimmed = pattern.trim();
+        int space = trimmed.indexOf(' ');
+        String method = space > 0 ? trimmed.substring(0, space) : null;
+        String key = TestImpact.endpointKey("*", space > 0 ? trimmed.substring(space + 1) : trimmed);
+
+        int recordedSpace = recorded.indexOf(' ');
+        if (method != null && !method.equalsIgnoreCase(recorded.substring(0, recordedSpace))) {
+            return false;
+        }
+        String[] wanted = key.substring(key.indexOf(' ') + 1).split("/");
+        String[] actual = recorded.substring(recordedSpace + 1).split("/");
+        if (wanted.length > actual.length) {
+            return false;
+        }
+        for (int i = 0; i < wanted.length; i++) {
+            boolean wildcard = wanted[i].equals("*") || (wanted[i].startsWith("{") && wanted[i].endsWith("}"));
+            if (!wildcard && !wanted[i].equals(actual[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean usesEndpoint(Set<String> used, String pattern) {
+        for (String dependency : used) {
+            if (dependency.startsWith(TestImpact.ENDPOINT)
+                    && endpointMatches(pattern, dependency.substring(TestImpact.ENDPOINT.length()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String className(String path) {
+        if (!path.endsWith(".java")) {
+            return null;
+        }
+        for (String root : SOURCE_ROOTS) {
+            int start = path.indexOf(root);
+            if (start >= 0) {
+                return path.substring(start + root.length(), path.length() - ".java".length()).replace('/', '.');
+            }
+        }
+        return null;
+    }
+
+    private static Map<String, Set<String>> read(Path file) {
+        Map<String, Set<String>> values = new TreeMap<>();
+        if (!Files.exists(file)) {
+            return values;
+        }
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            Map<String, Set<String>> loaded = gson.fromJson(reader, new TypeToken<Map<String, Set<String>>>() { }.getType());
+            if (loaded != null) {
+                values.putAll(loaded);
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Ignoring unreadable test impact map " + file + ": " + e.getMessage());
+        }
+        return values;
+    }
+}
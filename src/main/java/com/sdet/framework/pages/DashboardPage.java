@@ -19,6 +19,11 @@ public class DashboardPage extends WebDriverUtils {
         super(driver);
     }
 
+    @Override
+    protected boolean cachesElements() {
+        return true;
+    }
+
     /**
      * Get page title
      */
@@ -33,6 +38,13 @@ public class DashboardPage extends WebDriverUtils {
         return isElementVisible(productList);
     }
 
+    /**
+     * Check that the product list is gone (e.g. after logout), without waiting out the explicit wait
+     */
+    public boolean isProductListAbsent() {
+        return isElementAbsent(productList);
+    }
+
     /**
      * Click logout button
      */
@@ -4,6 +4,9 @@ import com.sdet.framework.utils.WebDriverUtils;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * LoginPage - Example Page Object Model class
  */
@@ -20,6 +23,11 @@ public class LoginPage extends WebDriverUtils {
         super(driver);
     }
 
+    @Override
+    protected boolean cachesElements() {
+        return true;
+    }
+
     /**
      * Enter email
      */
@@ -50,6 +58,18 @@ public class LoginPage extends WebDriverUtils {
         clickLoginButton();
     }
 
+    /**
+     * Fill both credentials in one script call and submit, for tests that need a signed-in user
+     * rather than exercising the form (keystroke-level behaviour is covered by login())
+     */
+    public void submitCredentials(String email, String password) {
+        Map<By, String> fields = new LinkedHashMap<>();
+        fields.put(emailInput, email);
+        fields.put(passwordInput, password);
+        fillForm(fields);
+        clickLoginButton();
+    }
+
     /**
      * Get error message
      */
@@ -57,6 +77,13 @@ public class LoginPage extends WebDriverUtils {
         return getText(errorMessage);
     }
 
+    /**
+     * Check that no error message is shown, without waiting out the explicit wait
+     */
+    public boolean isErrorMessageAbsent() {
+        return isElementAbsent(errorMessage);
+    }
+
     /**
      * Get page header
      */
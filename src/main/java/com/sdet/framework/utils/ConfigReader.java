@@ -2,6 +2,7 @@ package com.sdet.framework.utils;
 
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.util.Locale;
 import java.util.Properties;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -36,9 +37,10 @@ public class ConfigReader {
 
     /**
      * Get property value by key
+     * System properties (-Dkey=value) take precedence over config.properties
      */
     public static String getProperty(String key) {
-        String value = properties.getProperty(key);
+        String value = System.getProperty(key, properties.getProperty(key));
         if (value == null) {
             logger.warn("Property not found: " + key);
         }
@@ -47,9 +49,31 @@ public class ConfigReader {
 
     /**
      * Get property value with default fallback
+     * System properties (-Dkey=value) take precedence over config.properties
      */
     public static String getProperty(String key, String defaultValue) {
-        return properties.getProperty(key, defaultValue);
+        return System.getProperty(key, properties.getProperty(key, defaultValue));
+    }
+
+    /**
+     * Get a secret such as a password, which is not committed to config.properties
+     * The property (-Dkey=value) wins; otherwise the environment variable from {@link #environmentName(String)}.
+     * Returns null when neither is set
+     */
+    public static String getSecret(String key) {
+        String value = getProperty(key, "");
+        if (value.isBlank()) {
+            value = System.getenv(environmentName(key));
+        }
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    /**
+     * Environment variable read for a secret: upper case, dots and dashes as underscores
+     * (api.auth.admin.password -> API_AUTH_ADMIN_PASSWORD)
+     */
+    public static String environmentName(String key) {
+        return key.toUpperCase(Locale.ROOT).replace('.', '_').replace('-', '_');
     }
 
     /**
@@ -101,4 +125,12 @@ public class ConfigReader {
     public static boolean isHeadless() {
         return Boolean.parseBoolean(getProperty("headless.mode", "false"));
     }
+
+    /**
+     * Get browser launch profile name (default, fast-headless, ci-lowmem)
+     * Supports command line override via -Dbrowser.profile=fast-headless
+     */
+    public static String getBrowserProfile() {
+        return getProperty("browser.profile", "default");
+    }
 }
@@ -0,0 +1,160 @@
+package com.sdet.framework.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DomScripts - JavaScript that locates elements and reads or changes their state inside the page,
+ * so one executeScript call replaces a find/wait/isDisplayed/action sequence of WebDriver commands.
+ *
+ * Locators are handed to the page as {using, value} specs taken from Selenium's remote form of the
+ * By: css selector, xpath, link text and partial link text as they are; id, name, class name and tag
+ * name as the equivalent CSS selector. Other locators (e.g. relative locators, ByChained) are resolved
+ * with findElements first and passed in as element references.
+ */
+final class DomScripts {
+
+    /** locate(spec) and visible(element) helpers shared by every script */
+    static final String HELPERS =
+            "function locate(spec) {"
+            + "  if (spec.element) { return spec.element; }"
+            + "  if (spec.missing) { return null; }"
+            + "  switch (spec.using) {"
+            + "    case 'css selector': return document.querySelector(spec.value);"
+            + "    case 'xpath': return document.evaluate(spec.value, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;"
+            + "    case 'link text': case 'partial link text':"
+            + "      var links = document.querySelectorAll('a');"
+            + "      for (var i = 0; i < links.length; i++) {"
+            + "        var t = links[i].textContent.trim();"
+            + "        if (spec.using === 'link text' ? t === spec.value : t.indexOf(spec.value) >= 0) { return links[i]; }"
+            + "      }"
+            + "      return null;"
+            + "  }"
+            + "  return null;"
+            + "}"
+            + "function visible(el) {"
+            + "  if (el.getClientRects().length === 0) { return false; }"
+            + "  if (el.checkVisibility) { return el.checkVisibility({ opacityProperty: true, visibilityProperty: true }); }"
+            + "  var style = window.getComputedStyle(el);"
+            + "  return style.display !== 'none' && style.visibility !== 'hidden' && style.opacity !== '0';"
+            + "}";
+
+    /** arguments: specs, attribute names; returns one state map (or null when absent) per spec */
+    static final String READ_STATES = HELPERS
+            + "var specs = arguments[0], names = arguments[1];"
+            + "return specs.map(function (spec) {"
+            + "  var el = locate(spec);"
+            + "  if (!el) { return null; }"
+            + "  var attributes = {};"
+            + "  names.forEach(function (name) { attributes[name] = el.getAttribute(name); });"
+            + "  return { displayed: visible(el), enabled: !el.disabled, text: (el.innerText || '').trim(),"
+            + "           value: el.value === undefined ? null : String(el.value), attributes: attributes };"
+            + "});";
+
+    /**
+     * arguments: specs, values; sets each value through the native setter (so framework-bound inputs
+     * see the change) and fires input/change events; returns the indexes of specs that were not found
+     */
+    static final String FILL = HELPERS
+            + "var specs = arguments[0], values = arguments[1], missing = [];"
+            + "for (var i = 0; i < specs.length; i++) {"
+            + "  var el = locate(specs[i]);"
+            + "  if (!el) { missing.push(i); continue; }"
+            + "  var proto = el instanceof HTMLTextAreaElement ? HTMLTextAreaElement.prototype"
+            + "      : el instanceof HTMLSelectElement ? HTMLSelectElement.prototype : HTMLInputElement.prototype;"
+            + "  el.focus();"
+            + "  Object.getOwnPropertyDescriptor(proto, 'value').set.call(el, values[i]);"
+            + "  el.dispatchEvent(new Event('input', { bubbles: true }));"
+            + "  el.dispatchEvent(new Event('change', { bubbles: true }));"
+            + "}"
+            + "return missing;";
+
+    /**
+     * Async script. arguments: spec, condition (present | visible | clickable | hidden | ready), timeout in ms.
+     * Resolves with the element (or true for hidden and ready) as soon as a MutationObserver, readystatechange or
+     * animation-frame check sees the condition hold, or with null when the timeout passes.
+     */
+    static final String WAIT_FOR = HELPERS
+            + "var spec = arguments[0], condition = arguments[1], timeoutMs = arguments[2], done = arguments[arguments.length - 1];"
+            + "function check() {"
+            + "  if (condition === 'ready') { return document.readyState === 'complete' ? true : null; }"
+            + "  var el = locate(spec);"
+            + "  if (condition === 'hidden') { return !el || !visible(el) ? true : null; }"
+            + "  if (!el) { return null; }"
+            + "  if (condition === 'present') { return el; }"
+            + "  if (!visible(el)) { return null; }"
+            + "  if (condition === 'clickable' && el.disabled) { return null; }"
+            + "  return el;"
+            + "}"
+            + "var first = check();"
+            + "if (first) { done(first); return; }"
+            + "var finished = false, observer, timer;"
+            + "function finish(result) {"
+            + "  if (finished) { return; }"
+            + "  finished = true;"
+            + "  observer.disconnect();"
+            + "  clearTimeout(timer);"
+            + "  document.removeEventListener('readystatechange', evaluate);"
+            + "  done(result);"
+            + "}"
+            + "function evaluate() { var result = check(); if (result) { finish(result); } }"
+            // Style-only changes (CSS transitions, class toggles on ancestors) are caught by the frame check
+            + "function frame() { if (!finished) { evaluate(); window.requestAnimationFrame(frame); } }"
+            + "observer = new MutationObserver(evaluate);"
+            + "observer.observe(document, { childList: true, subtree: true, attributes: true, characterData: true });"
+            + "document.addEventListener('readystatechange', evaluate);"
+            + "window.requestAnimationFrame(frame);"
+            + "timer = setTimeout(function () { finish(null); }, timeoutMs);";
+
+    private DomScripts() {
+    }
+
+    /**
+     * Script argument describing how the page should find the locator
+     */
+    static Map<String, Object> spec(WebDriver driver, By locator) {
+        Map<String, Object> spec = remoteSpec(locator);
+        if (spec != null) {
+            return spec;
+        }
+        List<WebElement> found = driver.findElements(locator);
+        return found.isEmpty() ? Map.of("missing", true) : Map.of("element", found.get(0));
+    }
+
+    /**
+     * Whether locate() can evaluate the locator in the page by itself, without a findElements first
+     */
+    static boolean canLocate(By locator) {
+        return remoteSpec(locator) != null;
+    }
+
+    private static Map<String, Object> remoteSpec(By locator) {
+        if (!(locator instanceof By.Remotable remotable)) {
+            return null;
+        }
+        By.Remotable.Parameters parameters = remotable.getRemoteParameters();
+        if (!(parameters.value() instanceof String value)) {
+            return null;
+        }
+        return switch (parameters.using()) {
+            case "css selector", "xpath", "link text", "partial link text" -> Map.of("using", parameters.using(), "value", value);
+            case "id" -> css("[id=" + quoted(value) + "]");
+            case "name" -> css("[name=" + quoted(value) + "]");
+            case "class name" -> css("[class~=" + quoted(value) + "]");
+            case "tag name" -> css(value);
+            default -> null;
+        };
+    }
+
+    private static Map<String, Object> css(String selector) {
+        return Map.of("using", "css selector", "value", selector);
+    }
+
+    private static String quoted(String value) {
+        return '"' + value.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+    }
+}
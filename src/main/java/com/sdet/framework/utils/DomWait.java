@@ -0,0 +1,136 @@
+package com.sdet.framework.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DomWait - waits that resolve inside the page instead of polling from the test.
+ *
+ * One executeAsyncScript call installs a MutationObserver (plus readystatechange and animation-frame
+ * checks) and returns as soon as the condition holds, so the driver blocks on a single command rather
+ * than sending a findElement every poll interval. Returns null when the condition did not hold in time;
+ * throws WebDriverException when the page navigated away mid-wait or scripts are unavailable, in which
+ * case callers fall back to ExpectedConditions polling.
+ *
+ * Configuration (config.properties):
+ * wait.engine - observer (in-page waits) | polling (ExpectedConditions polling only) (default: observer)
+ */
+public class DomWait {
+
+    private static final Logger logger = LogManager.getLogger(DomWait.class);
+    private static final Duration SCRIPT_TIMEOUT_MARGIN = Duration.ofSeconds(5);
+    private static final Map<WebDriver, Duration> scriptTimeouts = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private static final AtomicLong resolved = new AtomicLong();
+    private static final AtomicLong timedOut = new AtomicLong();
+    private static final AtomicLong fallbacks = new AtomicLong();
+    private static final AtomicLong resolvedMillis = new AtomicLong();
+
+    /** What the element has to be before the wait resolves */
+    public enum Condition {
+        PRESENT("present"), VISIBLE("visible"), CLICKABLE("clickable");
+
+        private final String script;
+
+        Condition(String script) {
+            this.script = script;
+        }
+    }
+
+    private final WebDriver driver;
+
+    public DomWait(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Whether waits run in the page (wait.engine=observer)
+     */
+    public static boolean isEnabled() {
+        return "observer".equalsIgnoreCase(ConfigReader.getProperty("wait.engine", "observer"));
+    }
+
+    /**
+     * Whether the locator can be evaluated in the page (see {@link DomScripts}); other By types are
+     * polled from the test
+     */
+    public static boolean supports(By locator) {
+        return DomScripts.canLocate(locator);
+    }
+
+    /**
+     * The element once it meets the condition, or null when the timeout passes first
+     */
+    public WebElement until(By locator, Condition condition, Duration timeout) {
+        return (WebElement) run(DomScripts.spec(driver, locator), condition.script, timeout);
+    }
+
+    /**
+     * True once the element is missing or invisible, false when it is still shown after the timeout
+     */
+    public boolean untilHidden(By locator, Duration timeout) {
+        return Boolean.TRUE.equals(run(DomScripts.spec(driver, locator), "hidden", timeout));
+    }
+
+    /**
+     * True once document.readyState is complete, false when the timeout passes first
+     */
+    public boolean untilDocumentReady(Duration timeout) {
+        return Boolean.TRUE.equals(run(Map.of(), "ready", timeout));
+    }
+
+    /**
+     * Record that a caller had to fall back to polling
+     */
+    static void recordFallback(String reason) {
+        fallbacks.incrementAndGet();
+        logger.debug("In-page wait unavailable, polling instead: {}", reason);
+    }
+
+    /**
+     * In-page waits resolved, timed out and replaced by polling, or null when never used
+     */
+    public static String getStats() {
+        long done = resolved.get();
+        if (done == 0 && timedOut.get() == 0 && fallbacks.get() == 0) {
+            return null;
+        }
+        return "DomWait resolved=" + done + " timedOut=" + timedOut.get() + " fallbacks=" + fallbacks.get()
+                + " avgResolveMs=" + (done == 0 ? 0 : resolvedMillis.get() / done);
+    }
+
+    private Object run(Map<String, Object> spec, String condition, Duration timeout) {
+        ensureScriptTimeout(timeout);
+        long start = System.nanoTime();
+        Object result = ((JavascriptExecutor) driver).executeAsyncScript(DomScripts.WAIT_FOR, spec, condition, timeout.toMillis());
+        if (result == null || Boolean.FALSE.equals(result)) {
+            timedOut.incrementAndGet();
+            return null;
+        }
+        resolved.incrementAndGet();
+        resolvedMillis.addAndGet((System.nanoTime() - start) / 1_000_000);
+        return result;
+    }
+
+    /**
+     * The in-page timeout has to finish before the driver's script timeout; raise it once per session
+     */
+    private void ensureScriptTimeout(Duration timeout) {
+        Duration needed = timeout.plus(SCRIPT_TIMEOUT_MARGIN);
+        Duration current = scriptTimeouts.get(driver);
+        if (current == null || current.compareTo(needed) < 0) {
+            driver.manage().timeouts().scriptTimeout(needed);
+            scriptTimeouts.put(driver, needed);
+        }
+    }
+}
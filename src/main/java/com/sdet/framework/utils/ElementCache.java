@@ -0,0 +1,126 @@
+package com.sdet.framework.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ElementCache - element handles found by page objects, kept per browser session until the page changes.
+ *
+ * Page objects that opt in (WebDriverUtils#cachesElements) act on a cached handle directly instead of
+ * locating the element again. The cache of a session is cleared whenever it navigates (get, navigate(),
+ * close, switching window or frame); navigation triggered inside the page, e.g. by a form submit, is
+ * caught when the stale handle throws StaleElementReferenceException, after which the element is
+ * located again. Sessions from DriverFactory report navigation through this listener; other drivers
+ * rely on stale detection and WebDriverUtils#navigateToUrl.
+ *
+ * Configuration (config.properties):
+ * element.cache.enabled - allow page objects to cache element handles (default: true)
+ */
+public class ElementCache implements WebDriverListener {
+
+    private static final Logger logger = LogManager.getLogger(ElementCache.class);
+    private static final Map<WebDriver, ElementCache> caches = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+    private static final AtomicLong staleEvictions = new AtomicLong();
+    private static final AtomicLong navigations = new AtomicLong();
+
+    private final Map<By, WebElement> elements = new ConcurrentHashMap<>();
+
+    /**
+     * Whether page objects may cache element handles
+     */
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(ConfigReader.getProperty("element.cache.enabled", "true"));
+    }
+
+    /**
+     * Associate a cache with the (decorated) driver that reports navigation to it
+     */
+    public static void register(WebDriver driver, ElementCache cache) {
+        caches.put(driver, cache);
+    }
+
+    /**
+     * The cache of the driver's session, created on first use
+     */
+    public static ElementCache of(WebDriver driver) {
+        return caches.computeIfAbsent(driver, key -> new ElementCache());
+    }
+
+    /**
+     * Cached handle for the locator, or null when it has to be located
+     */
+    public WebElement get(By locator) {
+        WebElement element = elements.get(locator);
+        (element != null ? hits : misses).incrementAndGet();
+        return element;
+    }
+
+    /**
+     * Remember the handle found for the locator on the current page
+     */
+    public void put(By locator, WebElement element) {
+        elements.put(locator, element);
+    }
+
+    /**
+     * Drop a handle that turned stale or could not be used
+     */
+    public void evict(By locator, RuntimeException cause) {
+        if (elements.remove(locator) != null) {
+            staleEvictions.incrementAndGet();
+            logger.debug("Evicted cached element {}: {}", locator, cause.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * Forget every handle, e.g. after a navigation
+     */
+    public void invalidate() {
+        navigations.incrementAndGet();
+        elements.clear();
+    }
+
+    /**
+     * Hits, misses, hit rate, evicted stale handles and navigations, or null when never used
+     */
+    public static String getStats() {
+        long hit = hits.get();
+        long lookups = hit + misses.get();
+        if (lookups == 0) {
+            return null;
+        }
+        return "ElementCache hits=" + hit + " misses=" + misses.get() + " hitRate=" + (hit * 100 / lookups) + "%"
+                + " staleEvictions=" + staleEvictions.get() + " navigations=" + navigations.get();
+    }
+
+    @Override
+    public void afterAnyWebDriverCall(WebDriver driver, Method method, Object[] args, Object result) {
+        if ("get".equals(method.getName()) || "close".equals(method.getName())) {
+            invalidate();
+        }
+    }
+
+    @Override
+    public void afterAnyNavigationCall(WebDriver.Navigation navigation, Method method, Object[] args, Object result) {
+        invalidate();
+    }
+
+    @Override
+    public void afterAnyTargetLocatorCall(WebDriver.TargetLocator targetLocator, Method method, Object[] args, Object result) {
+        invalidate();
+    }
+}
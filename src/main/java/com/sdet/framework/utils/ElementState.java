@@ -0,0 +1,27 @@
+package com.sdet.framework.utils;
+
+import java.util.Map;
+
+/**
+ * ElementState - presence, visibility, text, value and requested attributes of one element,
+ * read together with other elements in a single script call (see WebDriverUtils#getElementStates)
+ */
+public record ElementState(boolean present, boolean displayed, boolean enabled, String text, String value,
+                           Map<String, String> attributes) {
+
+    private static final ElementState ABSENT = new ElementState(false, false, false, null, null, Map.of());
+
+    /**
+     * State of a locator that matched nothing
+     */
+    public static ElementState absent() {
+        return ABSENT;
+    }
+
+    /**
+     * Value of a requested attribute, or null when the element does not have it
+     */
+    public String attribute(String name) {
+        return attributes.get(name);
+    }
+}
@@ -0,0 +1,56 @@
+package com.sdet.framework.utils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Supplier;
+
+/**
+ * LockedFiles - read-merge-write of a file that parallel JVMs on the same machine update, such as the
+ * test history files and the driver manifest.
+ *
+ * The update holds an exclusive lock on a sibling "&lt;file&gt;.lock" while it merges with what is on disk,
+ * writes the result to a temp file and moves it over the file atomically, so neither a concurrent
+ * writer's changes nor a half-written file are ever seen.
+ */
+public final class LockedFiles {
+
+    /** Writes the merged content to the temp file */
+    @FunctionalInterface
+    public interface ContentWriter<T> {
+        void write(T content, OutputStream out) throws IOException;
+    }
+
+    private LockedFiles() {
+    }
+
+    /**
+     * Merge under the file's lock, write the result and return it
+     *
+     * @param merge reads the current file and merges this JVM's changes into it
+     */
+    public static <T> T update(Path file, Supplier<T> merge, ContentWriter<T> writer) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path lockFile = parent.resolve(file.getFileName() + ".lock");
+        try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            FileLock lock = channel.lock();
+            try {
+                T content = merge.get();
+                Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+                try (OutputStream out = Files.newOutputStream(temp)) {
+                    writer.write(content, out);
+                }
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                return content;
+            } finally {
+                lock.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,346 @@
+package com.sdet.framework.utils;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Metrics - timings of framework operations (browser launch, element actions, waits, HTTP calls),
+ * aggregated per suite, per test class and per test method.
+ *
+ * Call sites wrap the operation in {@link #time(String, Supplier)} / {@link #time(String, Runnable)}, or
+ * take {@link #start()} and pass it to {@link #record(String, long)} when the operation ends.
+ * Timings use System.nanoTime and are kept in lock-free histograms (LongAdder buckets), so recording
+ * never blocks a parallel test thread. MetricsListener opens a scope per test and configuration method
+ * and writes the JSON and Prometheus reports when the suite finishes. Element actions include the
+ * waits they perform; API calls made on worker threads are attributed to the test that started them.
+ *
+ * Operations: driver.init, driver.quit, ui.&lt;action&gt; (ui.click, ui.wait ...), api.&lt;METHOD&gt;.
+ *
+ * Configuration (config.properties):
+ * metrics.enabled - time operations and write reports (default: true)
+ * metrics.dir     - report directory (default: target/metrics)
+ */
+public final class Metrics {
+
+    private static final Logger logger = LogManager.getLogger(Metrics.class);
+    private static final boolean ENABLED = Boolean.parseBoolean(ConfigReader.getProperty("metrics.enabled", "true"));
+    private static final long[] BUCKET_MILLIS = {5, 10, 25, 50, 100, 250, 500, 1_000, 2_500, 5_000, 10_000, 30_000};
+
+    private static final Map<String, Histogram> suite = new ConcurrentHashMap<>();
+    private static final Map<String, Map<String, Histogram>> perClass = new ConcurrentHashMap<>();
+    private static final Map<String, Map<String, Histogram>> perTest = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Scope> scope = new ThreadLocal<>();
+
+    private Metrics() {
+    }
+
+    /** The test class and method (null for configuration methods) timings are attributed to */
+    public record Scope(String className, String methodName) {
+    }
+
+    /** Count, total, maximum and bucketed distribution of one operation's durations */
+    public static final class Histogram {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final LongAdder[] buckets = new LongAdder[BUCKET_MILLIS.length + 1];
+
+        Histogram() {
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+            long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+            int bucket = 0;
+            while (bucket < BUCKET_MILLIS.length && millis > BUCKET_MILLIS[bucket]) {
+                bucket++;
+            }
+            buckets[bucket].increment();
+        }
+
+        public long count() {
+            return count.sum();
+        }
+
+        public long totalMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(totalNanos.sum());
+        }
+
+        public long maxMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(maxNanos.get());
+        }
+
+        /**
+         * Upper bound (ms) of the bucket holding the given percentile, or the maximum for the last bucket
+         */
+        public long percentileMillis(double percentile) {
+            long total = count();
+            long rank = (long) Math.ceil(total * percentile / 100.0);
+            long seen = 0;
+            for (int i = 0; i < BUCKET_MILLIS.length; i++) {
+                seen += buckets[i].sum();
+                if (seen >= rank && rank > 0) {
+                    return Math.min(BUCKET_MILLIS[i], maxMillis());
+                }
+            }
+            return maxMillis();
+        }
+
+        Map<String, Object> summary() {
+            Map<String, Object> summary = new LinkedHashMap<>();
+            long total = count();
+            summary.put("count", total);
+            summary.put("totalMs", totalMillis());
+            summary.put("meanMs", total == 0 ? 0 : totalMillis() / total);
+            summary.put("p95Ms", percentileMillis(95));
+            summary.put("maxMs", maxMillis());
+            return summary;
+        }
+    }
+
+    /**
+     * Whether operations are timed
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Start of an operation for {@link #record(String, long)}
+     */
+    public static long start() {
+        return ENABLED ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Record an operation that began at {@code startNanos} for the suite and the current thread's test
+     */
+    public static void record(String operation, long startNanos) {
+        if (!ENABLED) {
+            return;
+        }
+        long nanos = System.nanoTime() - startNanos;
+        suite.computeIfAbsent(operation, name -> new Histogram()).record(nanos);
+        Scope current = scope.get();
+        if (current != null) {
+            timers(perClass, current.className()).computeIfAbsent(operation, name -> new Histogram()).record(nanos);
+            if (current.methodName() != null) {
+                timers(perTest, current.className() + "#" + current.methodName())
+                        .computeIfAbsent(operation, name -> new Histogram()).record(nanos);
+            }
+        }
+    }
+
+    /**
+     * Run an operation, record how long it took (also when it throws) and return its result
+     */
+    public static <T> T time(String operation, Supplier<T> action) {
+        long started = start();
+        try {
+            return action.get();
+        } finally {
+            record(operation, started);
+        }
+    }
+
+    /**
+     * Run an operation without a result and record how long it took
+     */
+    public static void time(String operation, Runnable action) {
+        long started = start();
+        try {
+            action.run();
+        } finally {
+            record(operation, started);
+        }
+    }
+
+    /**
+     * Attribute the current thread's timings to a test until {@link #end()}
+     */
+    public static void begin(Scope testScope) {
+        scope.set(testScope);
+    }
+
+    /**
+     * Stop attributing the current thread's timings to a test
+     */
+    public static void end() {
+        scope.remove();
+    }
+
+    /**
+     * The current thread's scope, to hand over to worker threads
+     */
+    public static Scope currentScope() {
+        return scope.get();
+    }
+
+    /**
+     * Run an action (e.g. on a worker thread) with timings attributed to the given scope
+     */
+    public static <T> T inScope(Scope testScope, Supplier<T> action) {
+        Scope previous = scope.get();
+        scope.set(testScope);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                scope.remove();
+            } else {
+                scope.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Timings of one operation over the whole run, or null when it never happened
+     */
+    public static Histogram suiteTimer(String operation) {
+        return suite.get(operation);
+    }
+
+    /**
+     * Timings of one operation in a test class, or null when it never happened there
+     */
+    public static Histogram classTimer(String className, String operation) {
+        return perClass.getOrDefault(className, Map.of()).get(operation);
+    }
+
+    /**
+     * Timings of one operation in a test method, or null when it never happened there
+     */
+    public static Histogram testTimer(String className, String methodName, String operation) {
+        return perTest.getOrDefault(className + "#" + methodName, Map.of()).get(operation);
+    }
+
+    /**
+     * Forget all timings, e.g. when a new suite starts
+     */
+    public static void reset() {
+        suite.clear();
+        perClass.clear();
+        perTest.clear();
+    }
+
+    /**
+     * The operations with the most total time, or null when nothing was timed
+     */
+    public static String getStats() {
+        if (suite.isEmpty()) {
+            return null;
+        }
+        return "Metrics top operations by time: " + suite.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, Histogram> e) -> e.getValue().totalMillis()).reversed())
+                .limit(5)
+                .map(e -> e.getKey() + "=" + e.getValue().totalMillis() + "ms/" + e.getValue().count())
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Suite, class and test summaries as JSON
+     */
+    public static String toJson(String suiteName) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("suite", suiteName);
+        report.put("operations", summaries(suite));
+        Map<String, Object> classes = new TreeMap<>();
+        perClass.forEach((className, timers) -> classes.put(className, summaries(timers)));
+        report.put("classes", classes);
+        Map<String, Object> tests = new TreeMap<>();
+        perTest.forEach((testName, timers) -> tests.put(testName, summaries(timers)));
+        report.put("tests", tests);
+        Gson gson = new GsonBuilder().setPrettyPrinting().create();
+        return gson.toJson(report);
+    }
+
+    /**
+     * Suite histograms and per-class totals in the Prometheus text exposition format
+     */
+    public static String toPrometheus() {
+        StringBuilder out = new StringBuilder();
+        out.append("# HELP sdet_operation_seconds Duration of framework operations\n");
+        out.append("# TYPE sdet_operation_seconds histogram\n");
+        new TreeMap<>(suite).forEach((operation, histogram) -> {
+            String labels = "operation=\"" + escape(operation) + "\"";
+            long cumulative = 0;
+            for (int i = 0; i < BUCKET_MILLIS.length; i++) {
+                cumulative += histogram.buckets[i].sum();
+                out.append("sdet_operation_seconds_bucket{").append(labels).append(",le=\"")
+                        .append(seconds(BUCKET_MILLIS[i])).append("\"} ").append(cumulative).append('\n');
+            }
+            out.append("sdet_operation_seconds_bucket{").append(labels).append(",le=\"+Inf\"} ").append(histogram.count()).append('\n');
+            out.append("sdet_operation_seconds_sum{").append(labels).append("} ").append(seconds(histogram.totalMillis())).append('\n');
+            out.append("sdet_operation_seconds_count{").append(labels).append("} ").append(histogram.count()).append('\n');
+        });
+        out.append("# HELP sdet_class_operation_seconds Duration of framework operations per test class\n");
+        out.append("# TYPE sdet_class_operation_seconds summary\n");
+        new TreeMap<>(perClass).forEach((className, timers) -> new TreeMap<>(timers).forEach((operation, histogram) -> {
+            String labels = "class=\"" + escape(className) + "\",operation=\"" + escape(operation) + "\"";
+            out.append("sdet_class_operation_seconds_sum{").append(labels).append("} ").append(seconds(histogram.totalMillis())).append('\n');
+            out.append("sdet_class_operation_seconds_count{").append(labels).append("} ").append(histogram.count()).append('\n');
+        }));
+        return out.toString();
+    }
+
+    /**
+     * Write &lt;suite&gt;.json and &lt;suite&gt;.prom to metrics.dir
+     */
+    public static void writeReports(String suiteName) {
+        if (!ENABLED || suite.isEmpty()) {
+            return;
+        }
+        Path dir = Path.of(ConfigReader.getProperty("metrics.dir", "target/metrics"));
+        String baseName = suiteName.replaceAll("[^A-Za-z0-9._-]+", "-");
+        try {
+            Files.createDirectories(dir);
+            Files.writeString(dir.resolve(baseName + ".json"), toJson(suiteName), StandardCharsets.UTF_8);
+            Files.writeString(dir.resolve(baseName + ".prom"), toPrometheus(), StandardCharsets.UTF_8);
+            logger.info("Metrics written to " + dir.resolve(baseName + ".json") + " and .prom");
+        } catch (IOException e) {
+            logger.warn("Could not write metrics to " + dir + ": " + e.getMessage());
+        }
+    }
+
+    private static Map<String, Histogram> timers(Map<String, Map<String, Histogram>> registry, String key) {
+        return registry.computeIfAbsent(key, name -> new ConcurrentHashMap<>());
+    }
+
+    private static Map<String, Object> summaries(Map<String, Histogram> timers) {
+        Map<String, Object> summaries = new TreeMap<>();
+        timers.forEach((operation, histogram) -> summaries.put(operation, histogram.summary()));
+        return summaries;
+    }
+
+    private static String seconds(long millis) {
+        return String.format(Locale.ROOT, "%.3f", millis / 1000.0);
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
@@ -0,0 +1,87 @@
+package com.sdet.framework.utils;
+
+import org.openqa.selenium.By;
+
+import java.util.Set;
+
+/**
+ * TestImpact - records which page objects, locators and API endpoints the running test touches.
+ *
+ * TestImpactListener opens a scope for the test class around every test and configuration method;
+ * page objects, WebDriverUtils and APIClient report what they use into it. Outside a scope (e.g. on
+ * async worker threads, or when recording is off) every call is a no-op, so recording costs one
+ * ThreadLocal lookup per element action or request. Async API calls are recorded on the calling thread.
+ *
+ * Dependencies are stored as "page:&lt;class&gt;", "locator:&lt;By&gt;" and "endpoint:&lt;METHOD&gt; &lt;path&gt;".
+ */
+public final class TestImpact {
+
+    public static final String PAGE = "page:";
+    public static final String LOCATOR = "locator:";
+    public static final String ENDPOINT = "endpoint:";
+
+    private static final ThreadLocal<Set<String>> scope = new ThreadLocal<>();
+
+    private TestImpact() {
+    }
+
+    /**
+     * Record the current thread's dependencies into the given (thread-safe) set until {@link #end()}
+     */
+    public static void begin(Set<String> dependencies) {
+        scope.set(dependencies);
+    }
+
+    /**
+     * Stop recording on the current thread
+     */
+    public static void end() {
+        scope.remove();
+    }
+
+    /**
+     * Record use of a page object class
+     */
+    public static void touchPage(Class<?> pageClass) {
+        record(PAGE, pageClass.getName());
+    }
+
+    /**
+     * Record use of a locator
+     */
+    public static void touchLocator(By locator) {
+        record(LOCATOR, String.valueOf(locator));
+    }
+
+    /**
+     * Record a request; the query string is dropped so "/users?page=2" counts as "/users"
+     */
+    public static void touchEndpoint(String method, String endpoint) {
+        Set<String> dependencies = scope.get();
+        if (dependencies != null) {
+            dependencies.add(ENDPOINT + endpointKey(method, endpoint));
+        }
+    }
+
+    /**
+     * Canonical "METHOD /path" form of a request, as stored in the impact map
+     */
+    public static String endpointKey(String method, String endpoint) {
+        String path = endpoint == null ? "" : endpoint.trim();
+        int query = path.indexOf('?');
+        if (query >= 0) {
+            path = path.substring(0, query);
+        }
+        if (!path.startsWith("/") && !path.contains("://")) {
+            path = "/" + path;
+        }
+        return method.toUpperCase() + " " + path;
+    }
+
+    private static void record(String kind, String name) {
+        Set<String> dependencies = scope.get();
+        if (dependencies != null) {
+            dependencies.add(kind + name);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.sdet.framework.utils;
+
+import org.openqa.selenium.TimeoutException;
+
+/**
+ * WaitBudgetExceededException - the current test used up its wait.test.budget.seconds.
+ *
+ * Unlike an ordinary timeout this fails the test even where a miss is an answer, e.g. in
+ * WebDriverUtils#isElementVisible, so a test full of misses stops instead of reporting false.
+ */
+public class WaitBudgetExceededException extends TimeoutException {
+
+    private static final long serialVersionUID = 1L;
+
+    public WaitBudgetExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,190 @@
+package com.sdet.framework.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * WaitPolicy - how long element waits may take.
+ *
+ * Actions (click, sendText, getText ...) wait up to explicit.wait. Probes that merely ask whether an
+ * element shows up (isElementVisible) wait as long as that locator has needed before: a multiple of the
+ * slowest of its recent appearance latencies, never less than a floor and never more than explicit.wait.
+ * All waits of a test are also capped by a per-test budget, so a test full of misses fails early instead
+ * of waiting out every timeout; once it is used up every wait throws WaitBudgetExceededException, which
+ * probes rethrow instead of answering false. Polling (when in-page waits are unavailable) backs off from
+ * a short first interval instead of sleeping a fixed 500 ms.
+ *
+ * Configuration (config.properties):
+ * wait.adaptive.enabled      - learn probe timeouts from appearance latency (default: true)
+ * wait.adaptive.min.samples  - appearances recorded before a locator's timeout is shortened (default: 3)
+ * wait.adaptive.multiplier   - probe timeout as a multiple of the slowest recent appearance (default: 3)
+ * wait.adaptive.floor.ms     - shortest learned probe timeout (default: 1000)
+ * wait.poll.initial.ms / wait.poll.max.ms - first and largest polling interval (default: 50 / 500)
+ * wait.test.budget.seconds   - total wait time per test from setUp, 0 = unlimited (default: 120)
+ * wait.absent.timeout.ms     - how long assertAbsent lets an element disappear (default: 1000)
+ */
+public final class WaitPolicy {
+
+    private static final Logger logger = LogManager.getLogger(WaitPolicy.class);
+    private static final int HISTORY_SIZE = 20;
+    private static final double BACKOFF_FACTOR = 1.5;
+    private static final Map<String, LatencyHistory> histories = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Long> budgetDeadline = new ThreadLocal<>();
+
+    private static final AtomicLong shortenedProbes = new AtomicLong();
+    private static final AtomicLong budgetExhausted = new AtomicLong();
+
+    /** Ring buffer of recent appearance latencies for one locator */
+    private static final class LatencyHistory {
+        private final long[] millis = new long[HISTORY_SIZE];
+        private int count;
+
+        synchronized void add(long value) {
+            millis[count % HISTORY_SIZE] = value;
+            count++;
+        }
+
+        synchronized int samples() {
+            return count;
+        }
+
+        synchronized long slowest() {
+            return Arrays.stream(millis, 0, Math.min(count, HISTORY_SIZE)).max().orElse(0);
+        }
+    }
+
+    private WaitPolicy() {
+    }
+
+    /**
+     * Start the current thread's per-test wait budget (called from test setUp)
+     */
+    public static void startTestBudget() {
+        long budgetSeconds = Long.parseLong(ConfigReader.getProperty("wait.test.budget.seconds", "120"));
+        if (budgetSeconds > 0) {
+            budgetDeadline.set(System.nanoTime() + Duration.ofSeconds(budgetSeconds).toNanos());
+        } else {
+            budgetDeadline.remove();
+        }
+    }
+
+    /**
+     * Clear the current thread's budget (called from test tearDown)
+     */
+    public static void clearTestBudget() {
+        budgetDeadline.remove();
+    }
+
+    /**
+     * Timeout for a wait that an action depends on: explicit.wait, capped by the test budget
+     */
+    public static Duration actionTimeout() {
+        return withinBudget(Duration.ofSeconds(ConfigReader.getExplicitWait()));
+    }
+
+    /**
+     * Timeout for a probe on the locator: learned from its history once enough samples exist,
+     * capped by explicit.wait and the test budget
+     */
+    public static Duration probeTimeout(By locator) {
+        Duration timeout = Duration.ofSeconds(ConfigReader.getExplicitWait());
+        LatencyHistory history = histories.get(locator.toString());
+        boolean adaptive = Boolean.parseBoolean(ConfigReader.getProperty("wait.adaptive.enabled", "true"));
+        int minSamples = Integer.parseInt(ConfigReader.getProperty("wait.adaptive.min.samples", "3"));
+        if (adaptive && history != null && history.samples() >= minSamples) {
+            double multiplier = Double.parseDouble(ConfigReader.getProperty("wait.adaptive.multiplier", "3"));
+            long floor = Long.parseLong(ConfigReader.getProperty("wait.adaptive.floor.ms", "1000"));
+            long learned = Math.max(floor, (long) (history.slowest() * multiplier));
+            if (learned < timeout.toMillis()) {
+                timeout = Duration.ofMillis(learned);
+                shortenedProbes.incrementAndGet();
+            }
+        }
+        return withinBudget(timeout);
+    }
+
+    /**
+     * Timeout for an absence check
+     */
+    public static Duration absentTimeout() {
+        return withinBudget(Duration.ofMillis(Long.parseLong(ConfigReader.getProperty("wait.absent.timeout.ms", "1000"))));
+    }
+
+    /**
+     * Record how long the locator took to meet its condition
+     */
+    public static void recordAppearance(By locator, Duration latency) {
+        histories.computeIfAbsent(locator.toString(), key -> new LatencyHistory()).add(latency.toMillis());
+    }
+
+    /**
+     * Poll the condition with a backoff interval until it returns a value or the timeout passes
+     */
+    public static <T> T poll(WebDriver driver, ExpectedCondition<T> condition, Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        long interval = Long.parseLong(ConfigReader.getProperty("wait.poll.initial.ms", "50"));
+        long maxInterval = Long.parseLong(ConfigReader.getProperty("wait.poll.max.ms", "500"));
+        RuntimeException lastError = null;
+        while (true) {
+            try {
+                T value = condition.apply(driver);
+                if (value != null && !Boolean.FALSE.equals(value)) {
+                    return value;
+                }
+            } catch (NotFoundException | StaleElementReferenceException e) {
+                lastError = e;
+            }
+            long remainingMillis = (deadline - System.nanoTime()) / 1_000_000;
+            if (remainingMillis <= 0) {
+                throw new TimeoutException("Expected condition failed: " + condition
+                        + " (tried for " + timeout.toMillis() + " ms)", lastError);
+            }
+            try {
+                Thread.sleep(Math.min(interval, remainingMillis));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new TimeoutException("Interrupted while waiting for " + condition, e);
+            }
+            interval = Math.min(maxInterval, (long) (interval * BACKOFF_FACTOR));
+        }
+    }
+
+    /**
+     * Probes shortened by learned timeouts, waits cut by the test budget and locators with history,
+     * or null when nothing was recorded
+     */
+    public static String getStats() {
+        if (histories.isEmpty() && budgetExhausted.get() == 0) {
+            return null;
+        }
+        return "WaitPolicy locators=" + histories.size() + " shortenedProbes=" + shortenedProbes.get()
+                + " budgetExhausted=" + budgetExhausted.get();
+    }
+
+    private static Duration withinBudget(Duration timeout) {
+        Long deadline = budgetDeadline.get();
+        if (deadline == null) {
+            return timeout;
+        }
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+            budgetExhausted.incrementAndGet();
+            logger.error("Per-test wait budget exhausted");
+            throw new WaitBudgetExceededException("Per-test wait budget of " + ConfigReader.getProperty("wait.test.budget.seconds", "120")
+                    + " s exhausted");
+        }
+        return remaining < timeout.toNanos() ? Duration.ofNanos(remaining) : timeout;
+    }
+}
@@ -1,96 +1,307 @@
 package com.sdet.framework.utils;
 
+import com.sdet.framework.drivers.RoundTripCounter;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.By;
+import org.openqa.selenium.InvalidElementStateException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.Select;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static org.apache.logging.log4j.util.Unbox.box;
 
 /**
- * WebDriverUtils class with common WebDriver operations
+ * WebDriverUtils class with common WebDriver operations.
+ * Batch methods (getElementStates, getTexts, fillForm) handle many locators in one executeScript
+ * round trip; step() logs how long a block took and how many round trips it issued.
+ * Element waits resolve inside the page through {@link DomWait}, with ExpectedConditions polling as the
+ * fallback; timeouts and the per-test budget come from {@link WaitPolicy}.
+ * Page objects that override cachesElements() reuse element handles through {@link ElementCache}.
  */
 public class WebDriverUtils {
 
     private static final Logger logger = LogManager.getLogger(WebDriverUtils.class);
     protected WebDriver driver;
     protected WebDriverWait wait;
+    protected DomWait domWait;
 
     public WebDriverUtils(WebDriver driver) {
         this.driver = driver;
         this.wait = new WebDriverWait(driver, Duration.ofSeconds(ConfigReader.getExplicitWait()));
+        this.domWait = new DomWait(driver);
+        TestImpact.touchPage(getClass());
     }
 
     /**
-     * Navigate to URL
+     * Override to return true in page objects whose actions may reuse element handles from the
+     * session's {@link ElementCache} instead of locating the element on every call
      */
-    public void navigateToUrl(String url) {
+    protected boolean cachesElements() {
+        return false;
+    }
+
+    /**
+     * Run the action on the cached handle when it still meets the condition; if it does not, turned
+     * stale, cannot be used, or its result is not trusted, the element is waited for and the action runs
+     * on the fresh handle
+     */
+    protected <T> T withElement(By locator, DomWait.Condition condition, Function<WebElement, T> action,
+                                Predicate<T> trustCached) {
+        TestImpact.touchLocator(locator);
+        ElementCache cache = elementCache();
+        WebElement element = cache == null ? null : cache.get(locator);
+        if (element != null) {
+            try {
+                if (meets(element, condition)) {
+                    T result = action.apply(element);
+                    if (trustCached.test(result)) {
+                        return result;
+                    }
+                }
+            } catch (StaleElementReferenceException | InvalidElementStateException e) {
+                cache.evict(locator, e);
+            }
+        }
+        return action.apply(waitFor(locator, condition));
+    }
+
+    /**
+     * Whether a cached handle is still in the state the condition would wait for
+     */
+    private static boolean meets(WebElement element, DomWait.Condition condition) {
+        return switch (condition) {
+            case PRESENT -> true;
+            case VISIBLE -> element.isDisplayed();
+            case CLICKABLE -> element.isDisplayed() && element.isEnabled();
+        };
+    }
+
+    private ElementCache elementCache() {
+        return cachesElements() && ElementCache.isEnabled() ? ElementCache.of(driver) : null;
+    }
+
+    /**
+     * Wait for the element to meet the condition, for up to the action timeout of {@link WaitPolicy}
+     */
+    protected WebElement waitFor(By locator, DomWait.Condition condition) {
+        return waitFor(locator, condition, WaitPolicy.actionTimeout());
+    }
+
+    /**
+     * Wait for the element to meet the condition. In-page waits return as soon as the DOM changes;
+     * if the page navigates mid-wait or cannot run scripts, the remaining time is polled with
+     * ExpectedConditions. A timed-out in-page wait gets one final driver lookup so self-healing
+     * locators still apply. Throws TimeoutException when the condition never holds.
+     */
+    protected WebElement waitFor(By locator, DomWait.Condition condition, Duration timeout) {
+        return Metrics.time("ui.wait", () -> {
+            TestImpact.touchLocator(locator);
+            ExpectedCondition<WebElement> expected = switch (condition) {
+                case PRESENT -> ExpectedConditions.presenceOfElementLocated(locator);
+                case VISIBLE -> ExpectedConditions.visibilityOfElementLocated(locator);
+                case CLICKABLE -> ExpectedConditions.elementToBeClickable(locator);
+            };
+            long start = System.nanoTime();
+            WebElement element;
+            if (!DomWait.isEnabled() || !DomWait.supports(locator)) {
+                element = WaitPolicy.poll(driver, expected, timeout);
+            } else {
+                try {
+                    element = domWait.until(locator, condition, timeout);
+                    if (element == null) {
+                        element = finalLookup(expected);
+                    }
+                    if (element == null) {
+                        throw new TimeoutException("Expected condition failed: waiting for " + condition.name().toLowerCase()
+                                + " element " + locator + " (tried for " + timeout.toMillis() + " ms)");
+                    }
+                } catch (TimeoutException e) {
+                    throw e;
+                } catch (WebDriverException e) {
+                    DomWait.recordFallback(e.getClass().getSimpleName());
+                    Duration remaining = timeout.minusNanos(System.nanoTime() - start);
+                    element = WaitPolicy.poll(driver, expected, remaining.isNegative() ? Duration.ZERO : remaining);
+                }
+            }
+            WaitPolicy.recordAppearance(locator, Duration.ofNanos(System.nanoTime() - start));
+            ElementCache cache = elementCache();
+            if (cache != null) {
+                cache.put(locator, element);
+            }
+            return element;
+        });
+    }
+
+    /**
+     * One last driver lookup after an in-page wait timed out; null when the element is still not there
+     */
+    private WebElement finalLookup(ExpectedCondition<WebElement> expected) {
         try {
-            driver.navigate().to(url);
-            logger.info("Navigated to URL: " + url);
-        } catch (Exception e) {
-            logger.error("Failed to navigate to URL: " + url + " - " + e.getMessage());
-            throw e;
+            return expected.apply(driver);
+        } catch (NotFoundException | StaleElementReferenceException e) {
+            return null;
         }
     }
 
+    /**
+     * Navigate to URL
+     */
+    public void navigateToUrl(String url) {
+        Metrics.time("ui.navigate", () -> {
+            try {
+                driver.navigate().to(url);
+                ElementCache cache = elementCache();
+                if (cache != null) {
+                    cache.invalidate();
+                }
+                logger.info("Navigated to URL: {}", url);
+            } catch (Exception e) {
+                logger.error("Failed to navigate to URL: {} - {}", url, e.getMessage());
+                throw e;
+            }
+        });
+    }
+
     /**
      * Wait for element to be visible and click
      */
     public void click(By locator) {
-        try {
-            WebElement element = wait.until(ExpectedConditions.elementToBeClickable(locator));
-            element.click();
-            logger.info("Clicked on element: " + locator);
-        } catch (Exception e) {
-            logger.error("Failed to click on element: " + locator + " - " + e.getMessage());
-            throw e;
-        }
+        Metrics.time("ui.click", () -> {
+            try {
+                withElement(locator, DomWait.Condition.CLICKABLE, element -> {
+                    element.click();
+                    return true;
+                }, clicked -> true);
+                logger.info("Clicked on element: {}", locator);
+            } catch (Exception e) {
+                logger.error("Failed to click on element: {} - {}", locator, e.getMessage());
+                throw e;
+            }
+        });
     }
 
     /**
      * Wait for element and send text
      */
     public void sendText(By locator, String text) {
-        try {
-            WebElement element = wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
-            element.clear();
-            element.sendKeys(text);
-            logger.info("Sent text '" + text + "' to element: " + locator);
-        } catch (Exception e) {
-            logger.error("Failed to send text to element: " + locator + " - " + e.getMessage());
-            throw e;
-        }
+        Metrics.time("ui.sendText", () -> {
+            try {
+                withElement(locator, DomWait.Condition.VISIBLE, element -> {
+                    element.clear();
+                    element.sendKeys(text);
+                    return true;
+                }, sent -> true);
+                logger.info("Sent text '{}' to element: {}", text, locator);
+            } catch (Exception e) {
+                logger.error("Failed to send text to element: {} - {}", locator, e.getMessage());
+                throw e;
+            }
+        });
     }
 
     /**
      * Get text from element
      */
     public String getText(By locator) {
-        try {
-            WebElement element = wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
-            String text = element.getText();
-            logger.info("Retrieved text from element: " + locator + " - " + text);
-            return text;
-        } catch (Exception e) {
-            logger.error("Failed to get text from element: " + locator + " - " + e.getMessage());
-            throw e;
-        }
+        return Metrics.time("ui.getText", () -> {
+            try {
+                // An empty text from a cached handle may mean the element is hidden; confirm with a wait
+                String text = withElement(locator, DomWait.Condition.VISIBLE, WebElement::getText, cached -> !cached.isEmpty());
+                logger.info("Retrieved text from element: {} - {}", locator, text);
+                return text;
+            } catch (Exception e) {
+                logger.error("Failed to get text from element: {} - {}", locator, e.getMessage());
+                throw e;
+            }
+        });
     }
 
     /**
      * Wait for element to be visible
      */
     public boolean isElementVisible(By locator) {
+        return Metrics.time("ui.isVisible", () -> {
+            TestImpact.touchLocator(locator);
+            try {
+                ElementCache cache = elementCache();
+                WebElement cached = cache == null ? null : cache.get(locator);
+                boolean visible = false;
+                if (cached != null) {
+                    try {
+                        visible = cached.isDisplayed();
+                    } catch (StaleElementReferenceException e) {
+                        cache.evict(locator, e);
+                    }
+                }
+                if (!visible) {
+                    waitFor(locator, DomWait.Condition.VISIBLE, WaitPolicy.probeTimeout(locator));
+                }
+                logger.info("Element is visible: {}", locator);
+                return true;
+            } catch (WaitBudgetExceededException e) {
+                throw e;
+            } catch (Exception e) {
+                logger.error("Element not visible: {}", locator);
+                return false;
+            }
+        });
+    }
+
+    /**
+     * Whether the element is missing or invisible, allowing it wait.absent.timeout.ms to disappear.
+     * Returns as soon as it is gone instead of waiting out the explicit wait.
+     */
+    public boolean isElementAbsent(By locator) {
+        return Metrics.time("ui.isAbsent", () -> {
+            TestImpact.touchLocator(locator);
+            Duration timeout = WaitPolicy.absentTimeout();
+            boolean absent;
+            if (DomWait.isEnabled() && DomWait.supports(locator)) {
+                try {
+                    absent = domWait.untilHidden(locator, timeout);
+                } catch (WebDriverException e) {
+                    DomWait.recordFallback(e.getClass().getSimpleName());
+                    absent = pollAbsent(locator, timeout);
+                }
+            } else {
+                absent = pollAbsent(locator, timeout);
+            }
+            logger.info("Element {}: {}", absent ? "is absent" : "is still shown", locator);
+            return absent;
+        });
+    }
+
+    /**
+     * Fail unless the element is missing or invisible (see {@link #isElementAbsent(By)})
+     */
+    public void assertAbsent(By locator) {
+        if (!isElementAbsent(locator)) {
+            throw new AssertionError("Expected element to be absent but it is shown: " + locator);
+        }
+    }
+
+    private boolean pollAbsent(By locator, Duration timeout) {
         try {
-            wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
-            logger.info("Element is visible: " + locator);
-            return true;
-        } catch (Exception e) {
-            logger.error("Element not visible: " + locator);
+            return WaitPolicy.poll(driver, ExpectedConditions.invisibilityOfElementLocated(locator), timeout);
+        } catch (TimeoutException e) {
             return false;
         }
     }
@@ -99,30 +310,34 @@ public class WebDriverUtils {
      * Select dropdown by visible text
      */
     public void selectDropdownByText(By locator, String text) {
-        try {
-            WebElement element = wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
-            Select dropdown = new Select(element);
-            dropdown.selectByVisibleText(text);
-            logger.info("Selected dropdown option: " + text);
-        } catch (Exception e) {
-            logger.error("Failed to select dropdown: " + e.getMessage());
-            throw e;
-        }
+        Metrics.time("ui.select", () -> {
+            try {
+                WebElement element = waitFor(locator, DomWait.Condition.VISIBLE);
+                Select dropdown = new Select(element);
+                dropdown.selectByVisibleText(text);
+                logger.info("Selected dropdown option: {}", text);
+            } catch (Exception e) {
+                logger.error("Failed to select dropdown: {}", e.getMessage());
+                throw e;
+            }
+        });
     }
 
     /**
      * Select dropdown by value
      */
     public void selectDropdownByValue(By locator, String value) {
-        try {
-            WebElement element = wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
-            Select dropdown = new Select(element);
-            dropdown.selectByValue(value);
-            logger.info("Selected dropdown value: " + value);
-        } catch (Exception e) {
-            logger.error("Failed to select dropdown: " + e.getMessage());
-            throw e;
-        }
+        Metrics.time("ui.select", () -> {
+            try {
+                WebElement element = waitFor(locator, DomWait.Condition.VISIBLE);
+                Select dropdown = new Select(element);
+                dropdown.selectByValue(value);
+                logger.info("Selected dropdown value: {}", value);
+            } catch (Exception e) {
+                logger.error("Failed to select dropdown: {}", e.getMessage());
+                throw e;
+            }
+        });
     }
 
     /**
@@ -143,24 +358,138 @@ public class WebDriverUtils {
      * Wait for page to load
      */
     public void waitForPageLoad() {
+        Metrics.time("ui.pageLoad", () -> {
+            try {
+                Boolean ready = null;
+                if (DomWait.isEnabled()) {
+                    try {
+                        ready = domWait.untilDocumentReady(Duration.ofSeconds(ConfigReader.getExplicitWait()));
+                    } catch (WebDriverException e) {
+                        DomWait.recordFallback(e.getClass().getSimpleName());
+                    }
+                }
+                if (ready == null) {
+                    wait.until(driver -> ((org.openqa.selenium.JavascriptExecutor) driver)
+                            .executeScript("return document.readyState").equals("complete"));
+                } else if (!ready) {
+                    throw new TimeoutException("Document did not reach readyState complete");
+                }
+                logger.info("Page loaded successfully");
+            } catch (Exception e) {
+                logger.warn("Page load wait timeout: {}", e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Read presence, visibility, enabled state, text, value and the given attributes of every locator
+     * in one script call. Locators that match nothing map to {@link ElementState#absent()}.
+     */
+    @SuppressWarnings("unchecked")
+    public Map<By, ElementState> getElementStates(List<By> locators, String... attributes) {
+        return Metrics.time("ui.readStates", () -> {
+            List<Map<String, Object>> specs = new ArrayList<>();
+            for (By locator : locators) {
+                TestImpact.touchLocator(locator);
+                specs.add(DomScripts.spec(driver, locator));
+            }
+            List<Object> raw = (List<Object>) ((JavascriptExecutor) driver)
+                    .executeScript(DomScripts.READ_STATES, specs, List.of(attributes));
+            Map<By, ElementState> states = new LinkedHashMap<>();
+            for (int i = 0; i < locators.size(); i++) {
+                Map<String, Object> state = (Map<String, Object>) raw.get(i);
+                if (state == null) {
+                    states.put(locators.get(i), ElementState.absent());
+                    continue;
+                }
+                Map<String, String> values = new LinkedHashMap<>();
+                ((Map<String, Object>) state.get("attributes")).forEach((name, value) ->
+                        values.put(name, value == null ? null : String.valueOf(value)));
+                states.put(locators.get(i), new ElementState(true, Boolean.TRUE.equals(state.get("displayed")),
+                        Boolean.TRUE.equals(state.get("enabled")), (String) state.get("text"), (String) state.get("value"), values));
+            }
+            logger.info("Read state of {} elements in one script call", box(locators.size()));
+            return states;
+        });
+    }
+
+    /**
+     * Visible text of every locator in one script call (null for locators that match nothing)
+     */
+    public Map<By, String> getTexts(By... locators) {
+        Map<By, String> texts = new LinkedHashMap<>();
+        getElementStates(List.of(locators)).forEach((locator, state) -> texts.put(locator, state.text()));
+        return texts;
+    }
+
+    /**
+     * Set the value of every field in one script call, firing input and change events as typing would.
+     * Throws NoSuchElementException naming the locators that matched nothing; the other fields are still filled.
+     */
+    @SuppressWarnings("unchecked")
+    public void fillForm(Map<By, String> values) {
+        Metrics.time("ui.fillForm", () -> {
+            List<By> locators = new ArrayList<>(values.keySet());
+            List<Map<String, Object>> specs = new ArrayList<>();
+            List<String> texts = new ArrayList<>();
+            for (By locator : locators) {
+                TestImpact.touchLocator(locator);
+                specs.add(DomScripts.spec(driver, locator));
+                texts.add(values.get(locator));
+            }
+            List<Object> missing = (List<Object>) ((JavascriptExecutor) driver).executeScript(DomScripts.FILL, specs, texts);
+            if (!missing.isEmpty()) {
+                List<By> notFound = new ArrayList<>();
+                for (Object index : missing) {
+                    notFound.add(locators.get(((Number) index).intValue()));
+                }
+                logger.error("Failed to fill form fields: {}", notFound);
+                throw new NoSuchElementException("Form fields not found: " + notFound);
+            }
+            logger.info("Filled {} form fields in one script call", box(locators.size()));
+        });
+    }
+
+    /**
+     * Run a step and log its duration and the WebDriver round trips it issued
+     */
+    public <T> T step(String name, Supplier<T> action) {
+        long start = System.nanoTime();
+        long roundTrips = RoundTripCounter.current();
         try {
-            wait.until(driver -> ((org.openqa.selenium.JavascriptExecutor) driver)
-                    .executeScript("return document.readyState").equals("complete"));
-            logger.info("Page loaded successfully");
-        } catch (Exception e) {
-            logger.warn("Page load wait timeout: " + e.getMessage());
+            return action.get();
+        } finally {
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            if (RoundTripCounter.isEnabled()) {
+                logger.info("Step '{}' took {} ms over {} round trips", name, box(elapsedMillis),
+                        box(RoundTripCounter.current() - roundTrips));
+            } else {
+                logger.info("Step '{}' took {} ms", name, box(elapsedMillis));
+            }
         }
     }
 
+    /**
+     * Run a step without a result and log its duration and round trips
+     */
+    public void step(String name, Runnable action) {
+        step(name, () -> {
+            action.run();
+            return null;
+        });
+    }
+
     /**
      * Execute JavaScript
      */
     public Object executeScript(String script, Object... args) {
-        try {
-            return ((org.openqa.selenium.JavascriptExecutor) driver).executeScript(script, args);
-        } catch (Exception e) {
-            logger.error("Failed to execute script: " + e.getMessage());
-            throw e;
-        }
+        return Metrics.time("ui.script", () -> {
+            try {
+                return ((org.openqa.selenium.JavascriptExecutor) driver).executeScript(script, args);
+            } catch (Exception e) {
+                logger.error("Failed to execute script: {}", e.getMessage());
+                throw e;
+            }
+        });
     }
 }
@@ -1,12 +1,26 @@
 package com.sdet.framework.runners;
 
+import com.sdet.framework.listeners.CircuitBreaker;
+import com.sdet.framework.listeners.MetricsListener;
+import com.sdet.framework.listeners.QuarantinePolicy;
+import com.sdet.framework.listeners.TestImpactMap;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.testng.TestNG;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+import org.testng.xml.internal.Parser;
 
+import java.io.BufferedReader;
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Programmatic TestNG runner so you can start tests from a Java main method.
@@ -16,6 +30,19 @@ import java.util.List;
  * -DsuiteFile=path/to/testng.xml        (default: testng.xml at project root)
  * -Dgroups=smoke,ui                      (include groups)
  * -DexcludedGroups=api                   (exclude groups)
+ * -Dshard=2/4                            (run one of N duration-balanced shards, see DurationScheduler)
+ * -Dimpact.base=origin/main              (run only tests affected by files changed since this git ref)
+ * -Dimpact.changed=src/.../LoginPage.java (run only tests affected by these files, comma separated)
+ * -Dimpact.endpoints="GET /users/{id}"   (run only tests calling these endpoints, comma separated)
+ *
+ * -Dcircuit.failure.rate=0.5 / -Dretry.max.attempts=1 (and other circuit.* / retry.* / quarantine.* keys)
+ *
+ * Impact selection uses the map TestImpactListener records on every run and falls back to the full
+ * suite when there is no map yet or a changed file's impact is unknown.
+ *
+ * CircuitBreaker, QuarantinePolicy and MetricsListener are attached to every suite file; the run exits
+ * with code 3 when the circuit breaker skipped the rest of the suite, 1 on test failures. Operation
+ * timings are written to target/metrics as JSON and Prometheus text.
  */
 public class ProgrammaticTestNG {
 
@@ -48,10 +75,20 @@ public class ProgrammaticTestNG {
 
         TestNG testng = new TestNG();
 
-        // Set suite file
-        List<String> suites = new ArrayList<>();
-        suites.add(suite.getPath());
-        testng.setTestSuites(suites);
+        // Set suite file, narrowed to the affected tests when impact selection is requested
+        List<XmlSuite> affected = selectAffected(suite);
+        if (affected != null) {
+            testng.setXmlSuites(affected);
+        } else {
+            List<String> suites = new ArrayList<>();
+            suites.add(suite.getPath());
+            testng.setTestSuites(suites);
+        }
+
+        // Fail fast when the run cannot succeed; retry only known-flaky tests
+        testng.addListener(new CircuitBreaker());
+        testng.addListener(new QuarantinePolicy());
+        testng.addListener(new MetricsListener());
 
         // Include/Exclude groups
         if (groups != null && !groups.isBlank()) {
@@ -64,7 +101,11 @@ public class ProgrammaticTestNG {
         // Run
         try {
             testng.run();
-            if (testng.hasFailure()) {
+            String tripReason = CircuitBreaker.tripReason();
+            if (tripReason != null) {
+                logger.error("TestNG run aborted by the circuit breaker: {}", tripReason);
+                System.exit(3);
+            } else if (testng.hasFailure()) {
                 logger.error("TestNG finished with failures.");
                 System.exit(1);
             } else {
@@ -75,4 +116,66 @@ public class ProgrammaticTestNG {
             System.exit(1);
         }
     }
+
+    /**
+     * The suite reduced to the classes affected by -Dimpact.base / -Dimpact.changed / -Dimpact.endpoints,
+     * or null to run the suite file as is
+     */
+    private static List<XmlSuite> selectAffected(File suiteFile) {
+        String base = System.getProperty("impact.base");
+        Set<String> changedFiles = new LinkedHashSet<>(split(System.getProperty("impact.changed")));
+        List<String> changedEndpoints = split(System.getProperty("impact.endpoints"));
+        if ((base == null || base.isBlank()) && changedFiles.isEmpty() && changedEndpoints.isEmpty()) {
+            return null;
+        }
+        try {
+            if (base != null && !base.isBlank()) {
+                changedFiles.addAll(gitChangedFiles(base.trim()));
+            }
+            List<XmlSuite> suites = new ArrayList<>(new Parser(suiteFile.getPath()).parseToList());
+            Set<String> suiteClasses = new LinkedHashSet<>();
+            for (XmlSuite xmlSuite : suites) {
+                for (XmlTest test : xmlSuite.getTests()) {
+                    test.getXmlClasses().forEach(xmlClass -> suiteClasses.add(xmlClass.getName()));
+                }
+            }
+            TestImpactMap.Selection selection = TestImpactMap.load().select(suiteClasses, changedFiles, changedEndpoints);
+            if (selection.fullSuite()) {
+                logger.info("Running the full suite: {}", selection.reason());
+                return null;
+            }
+            for (XmlSuite xmlSuite : suites) {
+                for (XmlTest test : xmlSuite.getTests()) {
+                    test.getXmlClasses().removeIf(xmlClass -> !selection.classes().contains(xmlClass.getName()));
+                }
+                xmlSuite.getTests().removeIf(test -> test.getXmlClasses().isEmpty());
+            }
+            logger.info("Impact selection ({}): {} of {} classes: {}", selection.reason(), selection.classes().size(),
+                    suiteClasses.size(), selection.classes());
+            return suites;
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            logger.warn("Impact selection failed, running the full suite: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static List<String> gitChangedFiles(String base) throws IOException, InterruptedException {
+        // Working tree against the base, so uncommitted edits count as well
+        Process git = new ProcessBuilder("git", "diff", "--name-only", base).redirectErrorStream(true).start();
+        List<String> files = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(git.getInputStream(), StandardCharsets.UTF_8))) {
+            reader.lines().filter(line -> !line.isBlank()).forEach(files::add);
+        }
+        if (git.waitFor() != 0) {
+            throw new IOException("git diff --name-only " + base + " failed: " + String.join(" ", files));
+        }
+        return files;
+    }
+
+    private static List<String> split(String value) {
+        if (value == null || value.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(value.split(",")).map(String::trim).filter(item -> !item.isEmpty()).toList();
+    }
 }
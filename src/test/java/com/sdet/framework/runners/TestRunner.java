@@ -2,9 +2,13 @@ package com.sdet.framework.runners;
 
 import io.cucumber.testng.AbstractTestNGCucumberTests;
 import io.cucumber.testng.CucumberOptions;
+import org.testng.annotations.DataProvider;
 
 /**
- * TestRunner - Cucumber TestNG runner for all features
+ * TestRunner - Cucumber TestNG runner for all features.
+ * Scenarios run in parallel on the suite's data-provider-thread-count threads (testng.xml); each scenario
+ * gets its own glue instances, and hooks are tag-scoped so API scenarios never start a browser.
+ * The runner selects @uitest; include API scenarios with -Dcucumber.filter.tags="@uitest or @apitest".
  */
 @CucumberOptions(
         features = {"src/test/resources/features"},
@@ -20,4 +24,10 @@ import io.cucumber.testng.CucumberOptions;
         tags = "@uitest"
 )
 public class TestRunner extends AbstractTestNGCucumberTests {
+
+    @Override
+    @DataProvider(parallel = true)
+    public Object[][] scenarios() {
+        return super.scenarios();
+    }
 }
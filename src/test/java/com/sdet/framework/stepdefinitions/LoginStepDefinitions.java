@@ -3,6 +3,7 @@ package com.sdet.framework.stepdefinitions;
 import com.sdet.framework.drivers.DriverFactory;
 import com.sdet.framework.pages.LoginPage;
 import com.sdet.framework.utils.ConfigReader;
+import com.sdet.framework.utils.WaitPolicy;
 import io.cucumber.java.Before;
 import io.cucumber.java.After;
 import io.cucumber.java.en.Given;
@@ -14,7 +15,9 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 /**
- * LoginStepDefinitions - Step definitions for login feature
+ * LoginStepDefinitions - Step definitions for login feature.
+ * Cucumber creates a new instance per scenario and hooks run on the scenario's thread, so each
+ * parallel scenario gets its own ThreadLocal driver. Hooks only apply to @uitest scenarios.
  */
 public class LoginStepDefinitions {
 
@@ -22,16 +25,17 @@ public class LoginStepDefinitions {
     private WebDriver driver;
     private LoginPage loginPage;
 
-    @Before
+    @Before("@uitest")
     public void setUp() {
         String browser = ConfigReader.getBrowser();
         driver = DriverFactory.initializeDriver(browser);
-        driver.manage().window().maximize();
+        WaitPolicy.startTestBudget();
         logger.info("Browser initialized for step definitions");
     }
 
-    @After
+    @After("@uitest")
     public void tearDown() {
+        WaitPolicy.clearTestBudget();
         if (DriverFactory.isDriverInitialized()) {
             DriverFactory.quitDriver();
             logger.info("Browser closed");
@@ -0,0 +1,89 @@
+package com.sdet.framework.tests.api;
+
+import com.sdet.framework.api.APIClient;
+import com.sdet.framework.api.ApiCall;
+import com.sdet.framework.api.ApiCallResult;
+import com.sdet.framework.api.StubServer;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * BulkRequestTest - verifies result order, the concurrency limit and per-call error capture of APIClient.executeAll
+ */
+public class BulkRequestTest {
+
+    private static final Logger logger = LogManager.getLogger(BulkRequestTest.class);
+    private static final String ROUTES = """
+            [
+              {"method": "GET", "path": "/slow/{id}", "latencyMs": 300, "body": {"ok": true}},
+              {"method": "GET", "path": "/dropped", "fault": "drop"},
+              {"method": "POST", "path": "/orders", "status": 201, "echoRequest": true, "body": {"id": 7}}
+            ]
+            """;
+
+    private StubServer stubServer;
+    private APIClient apiClient;
+
+    @BeforeClass
+    public void setUp() throws IOException {
+        Path routesDir = Files.createTempDirectory("bulk-routes");
+        Files.writeString(routesDir.resolve("routes.json"), ROUTES);
+        stubServer = StubServer.start(routesDir);
+        apiClient = new APIClient(stubServer.getBaseUrl());
+        logger.info("Bulk request test setup completed");
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void tearDown() {
+        if (stubServer != null) {
+            stubServer.close();
+        }
+    }
+
+    @Test(description = "Results come back in call order and a failed call carries its error")
+    public void testOrderAndErrorCapture() {
+        List<ApiCall> calls = List.of(
+                ApiCall.get("/slow/1"),
+                ApiCall.get("/dropped"),
+                ApiCall.post("/orders", Map.of("item", "Backpack")),
+                ApiCall.get("/missing"));
+
+        List<ApiCallResult> results = apiClient.executeAll(calls, 4);
+
+        Assert.assertEquals(results.size(), calls.size());
+        for (int i = 0; i < calls.size(); i++) {
+            Assert.assertSame(results.get(i).call(), calls.get(i), "Result " + i + " should belong to call " + i);
+        }
+        Assert.assertEquals(results.get(0).response().getStatusCode(), 200);
+        Assert.assertFalse(results.get(1).isSuccess(), "A dropped connection should be captured as an error");
+        Assert.assertNotNull(results.get(1).error());
+        Assert.assertEquals(results.get(2).response().getStatusCode(), 201);
+        Assert.assertTrue(results.get(3).isSuccess(), "A 404 is a response, not an error");
+        Assert.assertEquals(results.get(3).response().getStatusCode(), 404);
+        logger.info("Order and error capture test passed");
+    }
+
+    @Test(description = "No more than the given number of calls are in flight at once")
+    public void testConcurrencyLimit() {
+        List<ApiCall> calls = List.of(ApiCall.get("/slow/1"), ApiCall.get("/slow/2"),
+                ApiCall.get("/slow/3"), ApiCall.get("/slow/4"));
+
+        long start = System.nanoTime();
+        List<ApiCallResult> results = apiClient.executeAll(calls, 2);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        Assert.assertTrue(results.stream().allMatch(ApiCallResult::isSuccess), "All calls should succeed: " + results);
+        Assert.assertTrue(elapsedMillis >= 600, "Four 300 ms calls two at a time need two rounds, took " + elapsedMillis + " ms");
+        logger.info("Concurrency limit test passed in " + elapsedMillis + " ms");
+    }
+}
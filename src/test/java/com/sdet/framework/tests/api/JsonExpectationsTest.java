@@ -0,0 +1,96 @@
+package com.sdet.framework.tests.api;
+
+import com.sdet.framework.api.JsonExpectations;
+import com.sdet.framework.api.JsonPathExpression;
+import com.sdet.framework.api.JsonView;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * JsonExpectationsTest - verifies streaming JSON assertions on a large paginated payload
+ */
+public class JsonExpectationsTest {
+
+    private static final Logger logger = LogManager.getLogger(JsonExpectationsTest.class);
+    private static final int ITEMS = 100_000;
+
+    private static JsonView viewOf(String json) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        return JsonView.of(() -> new ByteArrayInputStream(bytes));
+    }
+
+    private static String page() {
+        StringBuilder json = new StringBuilder("{\"page\": 1, \"meta\": {\"total\": " + ITEMS + "}, \"items\": [");
+        for (int i = 0; i < ITEMS; i++) {
+            json.append(i == 0 ? "" : ",").append("{\"id\": ").append(i).append(", \"name\": \"item-").append(i).append("\"}");
+        }
+        return json.append("]}").toString();
+    }
+
+    @Test(description = "Paths, values, array sizes and schema are checked in one pass over a large body")
+    public void testLargePaginatedBody() {
+        byte[] body = page().getBytes(StandardCharsets.UTF_8);
+        AtomicInteger reads = new AtomicInteger();
+        JsonExpectations.expect(JsonView.of(() -> {
+                    reads.incrementAndGet();
+                    return new ByteArrayInputStream(body);
+                }))
+                .isValidJson()
+                .hasValue("page", 1)
+                .hasValue("meta.total", ITEMS)
+                .hasArraySize("items", ITEMS)
+                .hasValue("items[42].name", "item-42")
+                .conformsTo(Map.of("items[*].id", "number", "items[*].name", "string"))
+                .verify();
+
+        Assert.assertEquals(reads.get(), 1, "The body should be read once");
+        logger.info("Large paginated body test passed");
+    }
+
+    @Test(description = "Every violation is reported together")
+    public void testViolationsAreCollected() {
+        JsonView view = viewOf("{\"items\": [{\"id\": 1}, {\"id\": \"2\"}, {}]}");
+
+        AssertionError error = Assert.expectThrows(AssertionError.class, () -> JsonExpectations.expect(view)
+                .hasPath("page")
+                .hasArraySize("items", 2)
+                .conformsTo(Map.of("items[*].id", "number"))
+                .verify());
+
+        Assert.assertTrue(error.getMessage().contains("page is missing"), error.getMessage());
+        Assert.assertTrue(error.getMessage().contains("expected 2 elements but had 3"), error.getMessage());
+        Assert.assertTrue(error.getMessage().contains("items[1].id should be number but was string"), error.getMessage());
+        Assert.assertTrue(error.getMessage().contains("items[*].id is missing in 1 of 3 elements"), error.getMessage());
+        logger.info("Violations collected test passed");
+    }
+
+    @Test(description = "Malformed body is reported as invalid JSON")
+    public void testMalformedBody() {
+        JsonView view = viewOf("{\"id\": 1,");
+
+        Assert.assertFalse(view.isValid(), "Truncated body should be invalid");
+        Assert.assertNotNull(view.getError(), "Parse error should be reported");
+        logger.info("Malformed body test passed");
+    }
+
+    @Test(description = "Equivalent path spellings compile to one cached expression and extract in one pass")
+    public void testCompiledExpressions() {
+        Assert.assertSame(JsonPathExpression.compile("$.items[0].id"), JsonPathExpression.compile("$.items[0].id"),
+                "Compiled expressions should be cached");
+        Assert.assertEquals(JsonPathExpression.compile("$.items[0].id").canonical(),
+                JsonPathExpression.compile("items[0]['id']").canonical(), "Equivalent spellings should share a canonical form");
+
+        Map<String, String> extracted = viewOf("{\"id\": 5, \"a.b\": true, \"items\": [{\"id\": 9}]}")
+                .extract("$.id", "['a.b']", "items[0].id");
+
+        Assert.assertEquals(extracted, Map.of("$.id", "5", "['a.b']", "true", "items[0].id", "9"));
+        logger.info("Compiled expressions test passed");
+    }
+}
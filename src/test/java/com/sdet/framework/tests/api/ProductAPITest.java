@@ -1,7 +1,7 @@
 package com.sdet.framework.tests.api;
 
 import com.sdet.framework.api.APIClient;
-import com.sdet.framework.utils.ConfigReader;
+import com.sdet.framework.api.JsonView;
 import io.restassured.response.Response;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
@@ -19,7 +19,7 @@ public class ProductAPITest {
 
     @BeforeClass
     public void setUp() {
-        String apiBaseUrl = ConfigReader.getApiBaseUrl();
+        String apiBaseUrl = APIClient.configuredBaseUrl();
         apiClient = new APIClient(apiBaseUrl);
         apiClient.addHeader("Content-Type", "application/json");
         logger.info("Product API test setup completed");
@@ -38,7 +38,7 @@ public class ProductAPITest {
         Response response = apiClient.get("/products/1");
         
         Assert.assertEquals(response.getStatusCode(), 200, "Status code should be 200");
-        String productId = response.jsonPath().getString("id");
+        String productId = JsonView.of(response).getString("id");
         Assert.assertNotNull(productId, "Product ID should not be null");
         logger.info("Get product by ID test passed");
     }
@@ -49,7 +49,6 @@ public class ProductAPITest {
         Response response = apiClient.get("/products");
         
         Assert.assertEquals(response.getStatusCode(), 200, "Status code should be 200");
-        apiClient.reset();
         logger.info("Get products with pagination test passed");
     }
 }
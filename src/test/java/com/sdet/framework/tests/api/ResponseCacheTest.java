@@ -0,0 +1,89 @@
+package com.sdet.framework.tests.api;
+
+import com.sdet.framework.api.APIClient;
+import com.sdet.framework.api.AccessToken;
+import com.sdet.framework.api.CredentialProvider;
+import com.sdet.framework.api.JsonView;
+import com.sdet.framework.api.ResponseCache;
+import com.sdet.framework.api.StubServer;
+import com.sdet.framework.api.TokenCache;
+import io.restassured.response.Response;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ResponseCacheTest - verifies record-and-replay of API responses and LRU eviction
+ */
+public class ResponseCacheTest {
+
+    private static final Logger logger = LogManager.getLogger(ResponseCacheTest.class);
+
+    /** Each test gets its own server, so request counts are not shared between parallel methods */
+    private static StubServer startStub() {
+        return StubServer.start(Paths.get("src/test/resources/stubs"));
+    }
+
+    @Test(description = "Replay mode serves a recorded response without calling the server")
+    public void testReplayBypassesServer() throws IOException {
+        ResponseCache cache = new ResponseCache(Files.createTempDirectory("api-cache"), ResponseCache.Mode.REPLAY, 60, 10);
+        try (StubServer stubServer = startStub()) {
+            APIClient apiClient = new APIClient(stubServer.getBaseUrl()).useResponseCache(cache);
+
+            Response recorded = apiClient.get("/users/1");
+            Response replayed = apiClient.get("/users/1");
+
+            Assert.assertEquals(stubServer.getRequestsServed(), 1, "Replay should not reach the server");
+            Assert.assertEquals(replayed.getStatusCode(), recorded.getStatusCode(), "Status code should be replayed");
+            Assert.assertEquals(JsonView.of(replayed).getString("name"), "John Doe", "Body should be replayed");
+            Assert.assertTrue(cache.getStats().contains("hits=1 misses=1"), "Expected one hit and one miss: " + cache.getStats());
+        }
+        logger.info("Replay test passed");
+    }
+
+    @Test(description = "Replays are kept per principal and a replayed response needs no login")
+    public void testReplayIsKeyedByPrincipal() throws IOException {
+        ResponseCache cache = new ResponseCache(Files.createTempDirectory("api-cache"), ResponseCache.Mode.REPLAY, 60, 10);
+        AtomicInteger logins = new AtomicInteger();
+        CredentialProvider provider = principal -> AccessToken.validFor(principal + "-" + logins.incrementAndGet(), Duration.ofMinutes(5));
+        try (StubServer stubServer = startStub()) {
+            new APIClient(stubServer.getBaseUrl()).useResponseCache(cache)
+                    .withCredentials(provider, "alice", new TokenCache(Duration.ZERO)).get("/users/1");
+            new APIClient(stubServer.getBaseUrl()).useResponseCache(cache)
+                    .withCredentials(provider, "alice", new TokenCache(Duration.ZERO)).get("/users/1");
+
+            Assert.assertEquals(stubServer.getRequestsServed(), 1, "The same principal should replay the recorded entry");
+            Assert.assertEquals(logins.get(), 1, "A replayed response should not log in");
+
+            new APIClient(stubServer.getBaseUrl()).useResponseCache(cache)
+                    .withCredentials(provider, "bob", new TokenCache(Duration.ZERO)).get("/users/1");
+
+            Assert.assertEquals(stubServer.getRequestsServed(), 2, "Another principal should not get alice's entry");
+            Assert.assertEquals(logins.get(), 2, "Another principal should log in for its own request");
+        }
+        logger.info("Principal replay test passed");
+    }
+
+    @Test(description = "Least recently used entries are evicted beyond the size limit")
+    public void testLruEviction() throws IOException {
+        ResponseCache cache = new ResponseCache(Files.createTempDirectory("api-cache"), ResponseCache.Mode.RECORD, 60, 2);
+        try (StubServer stubServer = startStub()) {
+            APIClient apiClient = new APIClient(stubServer.getBaseUrl()).useResponseCache(cache);
+
+            apiClient.get("/users/1");
+            apiClient.get("/users/2");
+            apiClient.get("/users/3");
+        }
+
+        Assert.assertEquals(cache.size(), 2, "Cache should be capped at its size limit");
+        Assert.assertTrue(cache.getStats().contains("evicted=1"), "One entry should be evicted: " + cache.getStats());
+        logger.info("LRU eviction test passed");
+    }
+}
@@ -0,0 +1,89 @@
+package com.sdet.framework.tests.api;
+
+import com.sdet.framework.api.APIClient;
+import com.sdet.framework.api.JsonExpectations;
+import com.sdet.framework.api.StubServer;
+import io.restassured.response.Response;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * StubServerTest - verifies route matching, request echo, latency and fault simulation of the local stub server
+ */
+public class StubServerTest {
+
+    private static final Logger logger = LogManager.getLogger(StubServerTest.class);
+    private static final String ROUTES = """
+            [
+              {"method": "GET", "path": "/slow", "latencyMs": 300, "body": {"ok": true}},
+              {"method": "GET", "path": "/dropped", "fault": "drop"},
+              {"method": "POST", "path": "/orders", "status": 201, "echoRequest": true, "body": {"id": 7}}
+            ]
+            """;
+
+    private StubServer stubServer;
+    private APIClient apiClient;
+
+    @BeforeClass
+    public void setUp() throws IOException {
+        Path routesDir = Files.createTempDirectory("stub-routes");
+        Files.writeString(routesDir.resolve("routes.json"), ROUTES);
+        stubServer = StubServer.start(routesDir);
+        apiClient = new APIClient(stubServer.getBaseUrl());
+        apiClient.addHeader("Content-Type", "application/json");
+        logger.info("Stub server test setup completed");
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void tearDown() {
+        if (stubServer != null) {
+            stubServer.close();
+        }
+    }
+
+    @Test(description = "Route latency delays the response")
+    public void testLatencySimulation() {
+        long start = System.nanoTime();
+        Response response = apiClient.get("/slow");
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        Assert.assertEquals(response.getStatusCode(), 200, "Status code should be 200");
+        Assert.assertTrue(elapsedMillis >= 300, "Response should take at least the configured latency, took " + elapsedMillis + " ms");
+        logger.info("Latency simulation test passed");
+    }
+
+    @Test(description = "Drop fault closes the connection without a response")
+    public void testDropFault() {
+        Assert.assertThrows(Exception.class, () -> apiClient.get("/dropped"));
+        logger.info("Drop fault test passed");
+    }
+
+    @Test(description = "Echo route merges the request body into the canned response")
+    public void testEchoRequest() {
+        apiClient.addBody("{ \"item\": \"Backpack\" }");
+        Response response = apiClient.post("/orders");
+
+        Assert.assertEquals(response.getStatusCode(), 201, "Status code should be 201");
+        JsonExpectations.expect(response)
+                .hasValue("id", 7)
+                .hasValue("item", "Backpack")
+                .verify();
+        logger.info("Echo request test passed");
+    }
+
+    @Test(description = "Unknown route returns 404")
+    public void testUnmatchedRoute() {
+        Response response = apiClient.get("/missing");
+
+        Assert.assertEquals(response.getStatusCode(), 404, "Status code should be 404");
+        logger.info("Unmatched route test passed");
+    }
+}
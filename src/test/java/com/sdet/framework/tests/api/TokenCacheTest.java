@@ -0,0 +1,100 @@
+package com.sdet.framework.tests.api;
+
+import com.sdet.framework.api.APIClient;
+import com.sdet.framework.api.AccessToken;
+import com.sdet.framework.api.ApiCall;
+import com.sdet.framework.api.ApiCallResult;
+import com.sdet.framework.api.CredentialProvider;
+import com.sdet.framework.api.LoginCredentialProvider;
+import com.sdet.framework.api.StubServer;
+import com.sdet.framework.api.TokenCache;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * TokenCacheTest - verifies that tokens are fetched once per principal, shared by parallel requests
+ * and refreshed before they expire
+ */
+public class TokenCacheTest {
+
+    private static final Logger logger = LogManager.getLogger(TokenCacheTest.class);
+    private StubServer stubServer;
+
+    @BeforeClass
+    public void setUp() {
+        stubServer = StubServer.start(Paths.get("src/test/resources/stubs"));
+        // The stub login accepts any credentials; real ones are never committed
+        System.setProperty("api.auth.stub.username", "stub_user");
+        System.setProperty("api.auth.stub.password", "stub_password");
+        logger.info("Token cache test setup completed");
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void tearDown() {
+        System.clearProperty("api.auth.stub.username");
+        System.clearProperty("api.auth.stub.password");
+        if (stubServer != null) {
+            stubServer.close();
+        }
+    }
+
+    @Test(description = "200 parallel requests share a single login call")
+    public void testParallelRequestsCollapseIntoOneLogin() {
+        AtomicInteger logins = new AtomicInteger();
+        LoginCredentialProvider login = new LoginCredentialProvider(stubServer.getBaseUrl());
+        CredentialProvider countingLogin = principal -> {
+            logins.incrementAndGet();
+            return login.fetch(principal);
+        };
+        TokenCache cache = new TokenCache(Duration.ofSeconds(30));
+        APIClient apiClient = new APIClient(stubServer.getBaseUrl()).withCredentials(countingLogin, "stub", cache);
+
+        List<ApiCall> calls = new ArrayList<>(Collections.nCopies(200, ApiCall.get("/users/1")));
+        List<ApiCallResult> results = apiClient.executeAll(calls, 200);
+
+        Assert.assertTrue(results.stream().allMatch(ApiCallResult::isSuccess), "Every request should succeed");
+        Assert.assertEquals(logins.get(), 1, "Parallel requests should trigger exactly one login");
+        logger.info(cache.getStats());
+    }
+
+    @Test(description = "A token close to expiry is fetched again")
+    public void testRefreshBeforeExpiry() {
+        AtomicInteger fetches = new AtomicInteger();
+        CredentialProvider shortLived = principal -> AccessToken.validFor("token-" + fetches.incrementAndGet(), Duration.ofSeconds(10));
+        TokenCache cache = new TokenCache(Duration.ofSeconds(30));
+
+        AccessToken first = cache.get(shortLived, "admin");
+        AccessToken second = cache.get(shortLived, "admin");
+
+        Assert.assertNotEquals(second.value(), first.value(), "Token inside the refresh margin should be replaced");
+        Assert.assertEquals(fetches.get(), 2, "Each expiring token should be fetched again");
+        logger.info("Refresh before expiry test passed");
+    }
+
+    @Test(description = "A failed login is not cached")
+    public void testFailedFetchIsRetried() {
+        AtomicInteger attempts = new AtomicInteger();
+        CredentialProvider flaky = principal -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException("Login service unavailable");
+            }
+            return AccessToken.validFor("token", Duration.ofHours(1));
+        };
+        TokenCache cache = new TokenCache(Duration.ofSeconds(30));
+
+        Assert.assertThrows(IllegalStateException.class, () -> cache.get(flaky, "admin"));
+        Assert.assertEquals(cache.get(flaky, "admin").value(), "token", "Second attempt should fetch again");
+        logger.info("Failed fetch retry test passed");
+    }
+}
@@ -1,7 +1,7 @@
 package com.sdet.framework.tests.api;
 
 import com.sdet.framework.api.APIClient;
-import com.sdet.framework.utils.ConfigReader;
+import com.sdet.framework.api.JsonView;
 import io.restassured.response.Response;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
@@ -19,7 +19,7 @@ public class UserAPITest {
 
     @BeforeClass
     public void setUp() {
-        String apiBaseUrl = ConfigReader.getApiBaseUrl();
+        String apiBaseUrl = APIClient.configuredBaseUrl();
         apiClient = new APIClient(apiBaseUrl);
         apiClient.addHeader("Content-Type", "application/json");
         logger.info("API test setup completed");
@@ -38,7 +38,7 @@ public class UserAPITest {
         Response response = apiClient.get("/users/1");
         
         Assert.assertEquals(response.getStatusCode(), 200, "Status code should be 200");
-        String userId = response.jsonPath().getString("id");
+        String userId = JsonView.of(response).getString("id");
         Assert.assertNotNull(userId, "User ID should not be null");
         logger.info("Get user by ID test passed");
     }
@@ -51,7 +51,6 @@ public class UserAPITest {
         Response response = apiClient.post("/users");
         
         Assert.assertEquals(response.getStatusCode(), 201, "Status code should be 201");
-        apiClient.reset();
         logger.info("Create user test passed");
     }
 
@@ -63,7 +62,6 @@ public class UserAPITest {
         Response response = apiClient.put("/users/1");
         
         Assert.assertEquals(response.getStatusCode(), 200, "Status code should be 200");
-        apiClient.reset();
         logger.info("Update user test passed");
     }
 
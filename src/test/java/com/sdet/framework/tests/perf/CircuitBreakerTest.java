@@ -0,0 +1,55 @@
+package com.sdet.framework.tests.perf;
+
+import com.sdet.framework.listeners.CircuitBreaker;
+import com.sdet.framework.listeners.QuarantineList;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * CircuitBreakerTest - verifies when the failure window opens the breaker and which tests get quarantined
+ */
+public class CircuitBreakerTest {
+
+    private static final Logger logger = LogManager.getLogger(CircuitBreakerTest.class);
+
+    @Test(description = "The breaker opens once the failure rate over the window is reached")
+    public void testFailureWindowOpens() {
+        CircuitBreaker.FailureWindow window = new CircuitBreaker.FailureWindow(10, 5, 0.8);
+        for (int i = 0; i < 4; i++) {
+            Assert.assertNull(window.record(true), "Fewer than circuit.min.results results must not open the breaker");
+        }
+        String reason = window.record(true);
+        Assert.assertNotNull(reason);
+        logger.info("Breaker opened: " + reason);
+    }
+
+    @Test(description = "Occasional failures among passes keep the breaker closed")
+    public void testFailureWindowStaysClosed() {
+        CircuitBreaker.FailureWindow window = new CircuitBreaker.FailureWindow(10, 5, 0.8);
+        for (int i = 0; i < 20; i++) {
+            Assert.assertNull(window.record(i % 3 == 0), "A third of tests failing should not open the breaker");
+        }
+    }
+
+    @Test(description = "Tests that flip between pass and fail are quarantined; always-failing tests are not")
+    public void testQuarantineFromHistory() throws IOException {
+        Path file = Files.createTempDirectory("quarantine").resolve("quarantine.properties");
+        new QuarantineList(file).update(Map.of("LoginTest#testLogin", "PPF", "LoginTest#testBroken", "FF",
+                "DashboardTest#testCart", "PPP"));
+        new QuarantineList(file).update(Map.of("LoginTest#testLogin", "P", "LoginTest#testBroken", "F"));
+
+        QuarantineList reloaded = new QuarantineList(file);
+        Assert.assertEquals(QuarantineList.flips("PPFP"), 2);
+        Assert.assertTrue(reloaded.isQuarantined("LoginTest", "testLogin"), "PPFP flips twice");
+        Assert.assertFalse(reloaded.isQuarantined("LoginTest", "testBroken"), "A broken test is not flaky");
+        Assert.assertFalse(reloaded.isQuarantined("DashboardTest", "testCart"));
+        Assert.assertFalse(reloaded.isQuarantined("UnknownTest", "testNew"));
+    }
+}
@@ -0,0 +1,98 @@
+package com.sdet.framework.tests.perf;
+
+import com.sdet.framework.tests.support.InMemoryWebDriver;
+import com.sdet.framework.utils.DomWait;
+import com.sdet.framework.utils.WebDriverUtils;
+import org.openqa.selenium.By;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.support.locators.RelativeLocator;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * DomWaitTest - verifies how in-page waits resolve, time out and fall back to polling, on an in-memory driver
+ */
+public class DomWaitTest {
+
+    private static final Logger logger = LogManager.getLogger(DomWaitTest.class);
+    private final By username = By.id("user-name");
+
+    private static long stat(String name) {
+        String stats = DomWait.getStats();
+        Matcher matcher = Pattern.compile(name + "=(\\d+)").matcher(stats == null ? "" : stats);
+        return matcher.find() ? Long.parseLong(matcher.group(1)) : 0;
+    }
+
+    @Test(description = "An element found by the in-page wait is used without polling")
+    public void testInPageWaitResolves() {
+        InMemoryWebDriver driver = new InMemoryWebDriver().withElement(username, "standard_user");
+        driver.onAsyncScript(args -> driver.findElement(username));
+        long resolved = stat("resolved");
+        long fallbacks = stat("fallbacks");
+
+        Assert.assertEquals(new WebDriverUtils(driver).getText(username), "standard_user");
+
+        Assert.assertEquals(stat("resolved"), resolved + 1, "The in-page wait should resolve");
+        Assert.assertEquals(stat("fallbacks"), fallbacks, "No fallback to polling expected");
+        logger.info("In-page wait test passed");
+    }
+
+    @Test(description = "A timed-out in-page wait fails at once and is not counted as a fallback")
+    public void testTimeoutIsNotAFallback() {
+        InMemoryWebDriver driver = new InMemoryWebDriver().onAsyncScript(args -> null);
+        long timedOut = stat("timedOut");
+        long fallbacks = stat("fallbacks");
+
+        long start = System.nanoTime();
+        Assert.expectThrows(TimeoutException.class, () -> new WebDriverUtils(driver).click(username));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        Assert.assertEquals(stat("timedOut"), timedOut + 1, "The timeout should be counted");
+        Assert.assertEquals(stat("fallbacks"), fallbacks, "A timeout is not a fallback to polling");
+        Assert.assertTrue(elapsedMillis < 2_000, "The remaining time should not be polled again, took " + elapsedMillis + " ms");
+        logger.info("Timeout test passed");
+    }
+
+    @Test(description = "A page that cannot run scripts is polled instead")
+    public void testScriptErrorFallsBackToPolling() {
+        InMemoryWebDriver driver = new InMemoryWebDriver().withElement(username, "standard_user");
+        long fallbacks = stat("fallbacks");
+
+        Assert.assertEquals(new WebDriverUtils(driver).getText(username), "standard_user");
+
+        Assert.assertEquals(stat("fallbacks"), fallbacks + 1, "The script error should be counted as a fallback");
+        logger.info("Fallback test passed");
+    }
+
+    @Test(description = "An id locator reaches the page as the equivalent CSS selector")
+    public void testIdLocatorIsSentAsCss() {
+        InMemoryWebDriver driver = new InMemoryWebDriver().withElement(username, "standard_user");
+        AtomicReference<Object> spec = new AtomicReference<>();
+        driver.onAsyncScript(args -> {
+            spec.set(args[0]);
+            return driver.findElement(username);
+        });
+
+        new WebDriverUtils(driver).getText(username);
+
+        Assert.assertEquals(spec.get(), Map.of("using", "css selector", "value", "[id=\"user-name\"]"));
+        logger.info("Id locator spec test passed");
+    }
+
+    @Test(description = "Only locators the page can evaluate use the in-page wait")
+    public void testSupportedLocators() {
+        By relative = RelativeLocator.with(By.tagName("input")).below(username);
+        Assert.assertFalse(DomWait.supports(relative), "Relative locators need the driver");
+        Assert.assertTrue(DomWait.supports(username), "Id locators are evaluated in the page");
+        Assert.assertTrue(DomWait.supports(By.className("title")) && DomWait.supports(By.tagName("h1"))
+                && DomWait.supports(By.name("password")), "Class name, tag name and name locators are evaluated in the page");
+        logger.info("Supported locator test passed");
+    }
+}
@@ -0,0 +1,59 @@
+package com.sdet.framework.tests.perf;
+
+import com.sdet.framework.listeners.DurationHistory;
+import com.sdet.framework.listeners.DurationScheduler;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DurationSchedulerTest - verifies balanced, deterministic shards and duration history blending
+ */
+public class DurationSchedulerTest {
+
+    private static final Logger logger = LogManager.getLogger(DurationSchedulerTest.class);
+
+    @Test(description = "Classes are split longest-first into shards of similar expected time")
+    public void testShardsAreBalanced() {
+        Map<String, Long> expected = Map.of("LoginTest", 60_000L, "DashboardTest", 45_000L, "TestRunner", 40_000L,
+                "UserAPITest", 8_000L, "ProductAPITest", 7_000L, "StubServerTest", 3_000L);
+
+        Map<String, Integer> shards = DurationScheduler.assignShards(expected.keySet(), expected::get, 2);
+
+        long[] totals = new long[2];
+        shards.forEach((className, shard) -> totals[shard] += expected.get(className));
+        Assert.assertEquals(shards.size(), expected.size(), "Every class should be assigned exactly once");
+        Assert.assertTrue(Math.abs(totals[0] - totals[1]) <= 10_000, "Shards should be balanced: " + totals[0] + " vs " + totals[1]);
+        Assert.assertEquals(DurationScheduler.assignShards(List.copyOf(expected.keySet()), expected::get, 2), shards,
+                "Every node should compute the same split");
+        logger.info("Shard totals: " + totals[0] + " ms / " + totals[1] + " ms");
+    }
+
+    @Test(description = "Shard spec is 1-based i/N")
+    public void testShardParsing() {
+        Assert.assertEquals(DurationScheduler.Shard.parse("2/4"), new DurationScheduler.Shard(1, 4));
+        Assert.assertNull(DurationScheduler.Shard.parse(""));
+        Assert.assertThrows(IllegalArgumentException.class, () -> DurationScheduler.Shard.parse("5/4"));
+        Assert.assertThrows(IllegalArgumentException.class, () -> DurationScheduler.Shard.parse("3"));
+    }
+
+    @Test(description = "New durations are blended with the stored history")
+    public void testHistoryBlending() throws IOException {
+        Path file = Files.createTempDirectory("durations").resolve("durations.properties");
+        DurationHistory history = new DurationHistory(file);
+        history.update(Map.of("LoginTest#testSuccessfulLogin", 4_000L, "LoginTest#@setUp", 2_000L));
+        history.update(Map.of("LoginTest#testSuccessfulLogin", 2_000L));
+
+        DurationHistory reloaded = new DurationHistory(file);
+        Assert.assertEquals(reloaded.methodMillis("LoginTest", "testSuccessfulLogin"), 3_000L, "Runs should be averaged");
+        Assert.assertEquals(reloaded.classMillis("LoginTest"), 5_000L, "Class time should include configuration methods");
+        logger.info("History blending test passed");
+    }
+}
@@ -0,0 +1,106 @@
+package com.sdet.framework.tests.perf;
+
+import com.sdet.framework.tests.support.InMemoryWebDriver;
+import com.sdet.framework.utils.ElementCache;
+import com.sdet.framework.utils.WebDriverUtils;
+import org.openqa.selenium.By;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * ElementCacheTest - verifies cache hits, invalidation on navigation, eviction of stale handles and that
+ * a cached handle is only used in the state its action waits for, on an in-memory driver
+ */
+public class ElementCacheTest {
+
+    private static final Logger logger = LogManager.getLogger(ElementCacheTest.class);
+    private final By username = By.id("user-name");
+
+    /** A page object that opts in to the element cache */
+    private static final class CachingPage extends WebDriverUtils {
+
+        CachingPage(WebDriver driver) {
+            super(driver);
+        }
+
+        @Override
+        protected boolean cachesElements() {
+            return true;
+        }
+    }
+
+    private static long stat(String name) {
+        String stats = ElementCache.getStats();
+        Matcher matcher = Pattern.compile(name + "=(\\d+)").matcher(stats == null ? "" : stats);
+        return matcher.find() ? Long.parseLong(matcher.group(1)) : 0;
+    }
+
+    @Test(description = "The second action on a locator uses the cached handle")
+    public void testHitCounters() {
+        CachingPage page = new CachingPage(new InMemoryWebDriver().withElement(username, ""));
+        long hits = stat("hits");
+        long misses = stat("misses");
+
+        page.click(username);
+        page.click(username);
+
+        Assert.assertEquals(stat("misses"), misses + 1, "Only the first click should locate the element");
+        Assert.assertEquals(stat("hits"), hits + 1, "The second click should use the cached handle");
+        logger.info("Hit counter test passed");
+    }
+
+    @Test(description = "Navigating clears the cache")
+    public void testNavigationInvalidates() {
+        CachingPage page = new CachingPage(new InMemoryWebDriver().withElement(username, ""));
+        page.click(username);
+        long navigations = stat("navigations");
+        long misses = stat("misses");
+
+        page.navigateToUrl("https://www.saucedemo.com/inventory.html");
+        page.click(username);
+
+        Assert.assertEquals(stat("navigations"), navigations + 1, "The navigation should be counted");
+        Assert.assertEquals(stat("misses"), misses + 1, "The element should be located again after navigating");
+        logger.info("Navigation test passed");
+    }
+
+    @Test(description = "A stale handle is evicted and the action runs on the re-located element")
+    public void testStaleHandleIsEvicted() {
+        InMemoryWebDriver driver = new InMemoryWebDriver().withElement(username, "");
+        CachingPage page = new CachingPage(driver);
+        page.sendText(username, "standard_user");
+        long evictions = stat("staleEvictions");
+
+        driver.withElement(username, "");
+        page.sendText(username, "problem_user");
+
+        Assert.assertEquals(stat("staleEvictions"), evictions + 1, "The stale handle should be evicted");
+        Assert.assertEquals(driver.findElement(username).getText(), "problem_user", "Text should reach the new element");
+        logger.info("Stale eviction test passed");
+    }
+
+    @Test(description = "A cached handle that is no longer visible is waited for instead of used")
+    public void testHiddenCachedHandleIsNotUsed() {
+        InMemoryWebDriver driver = new InMemoryWebDriver().withElement(username, "");
+        CachingPage page = new CachingPage(driver);
+        page.sendText(username, "standard_user");
+        driver.setDisplayed(username, false);
+
+        System.setProperty("explicit.wait", "1");
+        try {
+            Assert.assertThrows(TimeoutException.class, () -> page.sendText(username, "locked_out_user"));
+        } finally {
+            System.clearProperty("explicit.wait");
+        }
+
+        Assert.assertEquals(driver.findElement(username).getText(), "standard_user", "A hidden element should not be typed into");
+        logger.info("Hidden handle test passed");
+    }
+}
@@ -0,0 +1,64 @@
+package com.sdet.framework.tests.perf;
+
+import com.sdet.framework.utils.Metrics;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * MetricsTest - verifies per-suite/class/test aggregation, timed operations and the Prometheus export
+ */
+public class MetricsTest {
+
+    private static final Logger logger = LogManager.getLogger(MetricsTest.class);
+
+    @Test(description = "Timings are attributed to the suite, the test class and the test method, also across threads")
+    public void testAggregationByScope() {
+        Metrics.Scope scope = new Metrics.Scope("com.example.CheckoutTest", "testPay");
+        Metrics.Scope previous = Metrics.currentScope();
+        Metrics.begin(scope);
+        try {
+            Metrics.record("test.op", Metrics.start());
+            CompletableFuture.runAsync(() -> Metrics.inScope(scope, () -> {
+                Metrics.record("test.op", Metrics.start());
+                return null;
+            })).join();
+        } finally {
+            Metrics.begin(previous);
+        }
+
+        Assert.assertEquals(Metrics.testTimer("com.example.CheckoutTest", "testPay", "test.op").count(), 2);
+        Assert.assertEquals(Metrics.classTimer("com.example.CheckoutTest", "test.op").count(), 2);
+        Assert.assertTrue(Metrics.suiteTimer("test.op").count() >= 2);
+    }
+
+    @Test(description = "Prometheus export has cumulative buckets ending in +Inf = count")
+    public void testPrometheusExport() {
+        Metrics.record("test.export", Metrics.start());
+        Metrics.record("test.export", Metrics.start() - 3_000_000_000L);
+
+        String text = Metrics.toPrometheus();
+        Assert.assertTrue(text.contains("# TYPE sdet_operation_seconds histogram"));
+        Assert.assertTrue(text.contains("sdet_operation_seconds_bucket{operation=\"test.export\",le=\"0.005\"} 1"), text);
+        Assert.assertTrue(text.contains("sdet_operation_seconds_bucket{operation=\"test.export\",le=\"5.000\"} 2"), text);
+        Assert.assertTrue(text.contains("sdet_operation_seconds_bucket{operation=\"test.export\",le=\"+Inf\"} 2"), text);
+        Assert.assertTrue(text.contains("sdet_operation_seconds_count{operation=\"test.export\"} 2"), text);
+        Assert.assertEquals(Metrics.suiteTimer("test.export").percentileMillis(50), 5);
+        logger.info("Prometheus export verified");
+    }
+
+    @Test(description = "A timed operation is recorded with its result and also when it throws")
+    public void testTimeRecordsResultAndFailure() {
+        Assert.assertEquals(Metrics.time("test.time", () -> "done"), "done");
+        Assert.assertThrows(IllegalStateException.class, () -> Metrics.time("test.time", () -> {
+            throw new IllegalStateException("failed");
+        }));
+        Metrics.time("test.time", () -> logger.info("Timed runnable"));
+
+        Assert.assertEquals(Metrics.suiteTimer("test.time").count(), 3);
+        logger.info("Timed operations verified");
+    }
+}
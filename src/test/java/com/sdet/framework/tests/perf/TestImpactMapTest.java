@@ -0,0 +1,65 @@
+package com.sdet.framework.tests.perf;
+
+import com.sdet.framework.listeners.TestImpactMap;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * TestImpactMapTest - verifies that changed page objects, tests and endpoints select only the affected classes
+ */
+public class TestImpactMapTest {
+
+    private static final Logger logger = LogManager.getLogger(TestImpactMapTest.class);
+
+    private static final String LOGIN_TEST = "com.sdet.framework.tests.ui.LoginTest";
+    private static final String DASHBOARD_TEST = "com.sdet.framework.tests.ui.DashboardTest";
+    private static final String USER_API_TEST = "com.sdet.framework.tests.api.UserAPITest";
+    private static final String NEW_TEST = "com.sdet.framework.tests.api.NewAPITest";
+    private static final List<String> SUITE = List.of(LOGIN_TEST, DASHBOARD_TEST, USER_API_TEST, NEW_TEST);
+
+    private TestImpactMap recordedMap() throws IOException {
+        Path file = Files.createTempDirectory("impact").resolve("impact-map.json");
+        new TestImpactMap(file).update(Map.of(
+                LOGIN_TEST, Set.of("page:com.sdet.framework.pages.LoginPage", "locator:By.id: user-name"),
+                DASHBOARD_TEST, Set.of("page:com.sdet.framework.pages.LoginPage", "page:com.sdet.framework.pages.DashboardPage"),
+                USER_API_TEST, Set.of("endpoint:GET /users/2", "endpoint:POST /users")));
+        return new TestImpactMap(file);
+    }
+
+    @Test(description = "A changed page object selects the classes that used it, plus unrecorded classes")
+    public void testChangedPageSelectsItsTests() throws IOException {
+        TestImpactMap.Selection selection = recordedMap().select(SUITE,
+                List.of("src/main/java/com/sdet/framework/pages/DashboardPage.java", "README.md"), List.of());
+
+        Assert.assertFalse(selection.fullSuite(), selection.reason());
+        Assert.assertEquals(selection.classes(), Set.of(DASHBOARD_TEST, NEW_TEST));
+        logger.info("Selected: " + selection.classes());
+    }
+
+    @Test(description = "Endpoint patterns match by method and path segment")
+    public void testChangedEndpointSelectsCallers() throws IOException {
+        TestImpactMap map = recordedMap();
+
+        Assert.assertEquals(map.select(SUITE, List.of(), List.of("GET /users/{id}")).classes(), Set.of(USER_API_TEST, NEW_TEST));
+        Assert.assertEquals(map.select(SUITE, List.of(), List.of("/users")).classes(), Set.of(USER_API_TEST, NEW_TEST));
+        Assert.assertEquals(map.select(SUITE, List.of(), List.of("DELETE /users/*")).classes(), Set.of(NEW_TEST));
+    }
+
+    @Test(description = "Unmapped changes and a missing map fall back to the full suite")
+    public void testFullSuiteFallback() throws IOException {
+        Assert.assertTrue(recordedMap().select(SUITE, List.of("src/main/java/com/sdet/framework/api/APIClient.java"), List.of()).fullSuite());
+        Assert.assertTrue(recordedMap().select(SUITE, List.of("pom.xml"), List.of()).fullSuite());
+
+        TestImpactMap empty = new TestImpactMap(Files.createTempDirectory("impact").resolve("impact-map.json"));
+        Assert.assertTrue(empty.select(SUITE, List.of("src/main/java/com/sdet/framework/pages/LoginPage.java"), List.of()).fullSuite());
+    }
+}
@@ -0,0 +1,75 @@
+package com.sdet.framework.tests.perf;
+
+import com.sdet.framework.api.APIClient;
+import com.sdet.framework.api.ApiCall;
+import com.sdet.framework.api.LoadReport;
+import com.sdet.framework.api.LoadRunner;
+import com.sdet.framework.api.LoadSlo;
+import com.sdet.framework.api.StubServer;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * UserAPILoadTest - replays the UserAPITest calls as a throughput gate against the local stub server
+ */
+public class UserAPILoadTest {
+
+    private static final Logger logger = LogManager.getLogger(UserAPILoadTest.class);
+    private static final List<ApiCall> USER_READS = List.of(
+            ApiCall.get("/users"),
+            ApiCall.get("/users/1"));
+
+    private StubServer stubServer;
+    private APIClient apiClient;
+
+    @BeforeClass
+    public void setUp() {
+        stubServer = StubServer.start(Paths.get("src/test/resources/stubs"));
+        apiClient = new APIClient(stubServer.getBaseUrl());
+        apiClient.addHeaders(Map.of("Content-Type", "application/json"));
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void tearDown() {
+        if (stubServer != null) {
+            stubServer.close();
+        }
+    }
+
+    @Test(groups = {"perf"}, description = "User reads at a fixed rate stay within latency and error SLO")
+    public void testUserReadsAtTargetRate() {
+        LoadReport report = LoadRunner.scenario("user-reads", USER_READS)
+                .concurrency(8)
+                .targetRps(50)
+                .duration(Duration.ofSeconds(5))
+                .warmupIterations(200)
+                .run(apiClient);
+
+        report.assertSlo(LoadSlo.create()
+                .p99Below(Duration.ofMillis(500))
+                .maxErrorRate(0.0)
+                .minThroughput(40));
+        logger.info("User reads load test passed");
+    }
+
+    @Test(groups = {"perf"}, description = "Fixed iteration count issues every call in the sequence")
+    public void testFixedIterations() {
+        LoadReport report = LoadRunner.scenario("user-reads-iterations", USER_READS)
+                .concurrency(4)
+                .iterations(100)
+                .run(apiClient);
+
+        Assert.assertEquals(report.getRequests(), 200, "Each iteration should replay the whole sequence");
+        Assert.assertEquals(report.getErrors(), 0, "No request should fail");
+        logger.info("Fixed iteration load test passed");
+    }
+}
@@ -0,0 +1,101 @@
+package com.sdet.framework.tests.perf;
+
+import com.sdet.framework.tests.support.InMemoryWebDriver;
+import com.sdet.framework.utils.ConfigReader;
+import com.sdet.framework.utils.WaitBudgetExceededException;
+import com.sdet.framework.utils.WaitPolicy;
+import com.sdet.framework.utils.WebDriverUtils;
+import org.openqa.selenium.By;
+import org.openqa.selenium.TimeoutException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * WaitPolicyTest - verifies learned probe timeouts, backoff polling, absence checks and the per-test budget
+ * (no browser needed)
+ */
+public class WaitPolicyTest {
+
+    private static final Logger logger = LogManager.getLogger(WaitPolicyTest.class);
+
+    @Test(description = "Probe timeout shrinks to the learned appearance latency")
+    public void testProbeTimeoutIsLearned() {
+        By fast = By.id("wait-policy-fast");
+        Duration explicitWait = Duration.ofSeconds(ConfigReader.getExplicitWait());
+        Assert.assertEquals(WaitPolicy.probeTimeout(fast), explicitWait, "Unknown locator should get the explicit wait");
+
+        for (int i = 0; i < 3; i++) {
+            WaitPolicy.recordAppearance(fast, Duration.ofMillis(100 + i * 50));
+        }
+
+        Duration learned = WaitPolicy.probeTimeout(fast);
+        Assert.assertTrue(learned.compareTo(explicitWait) < 0, "Learned timeout should be shorter: " + learned);
+        Assert.assertTrue(learned.toMillis() >= 600, "Learned timeout should cover the slowest appearance: " + learned);
+        logger.info("Learned probe timeout: " + learned.toMillis() + " ms");
+    }
+
+    @Test(description = "Polling backs off and returns as soon as the condition holds")
+    public void testPollReturnsOnceConditionHolds() {
+        AtomicInteger calls = new AtomicInteger();
+        long start = System.nanoTime();
+
+        String value = WaitPolicy.poll(null, driver -> calls.incrementAndGet() < 4 ? null : "ready", Duration.ofSeconds(5));
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        Assert.assertEquals(value, "ready");
+        Assert.assertEquals(calls.get(), 4, "Condition should be checked until it holds");
+        Assert.assertTrue(elapsedMillis < 1000, "Backoff should start short, took " + elapsedMillis + " ms");
+        logger.info("Poll test passed in " + elapsedMillis + " ms");
+    }
+
+    @Test(description = "Polling gives up at the timeout")
+    public void testPollTimesOut() {
+        Assert.assertThrows(TimeoutException.class,
+                () -> WaitPolicy.poll(null, driver -> Boolean.FALSE, Duration.ofMillis(300)));
+        logger.info("Poll timeout test passed");
+    }
+
+    @Test(description = "An element that is missing or hidden is absent, a shown one is not")
+    public void testIsElementAbsent() {
+        By missing = By.id("wait-policy-missing");
+        By hidden = By.id("wait-policy-hidden");
+        By shown = By.id("wait-policy-shown");
+        InMemoryWebDriver driver = new InMemoryWebDriver()
+                .withElement(hidden, "Epic sadface")
+                .withElement(shown, "Products")
+                .setDisplayed(hidden, false);
+        WebDriverUtils utils = new WebDriverUtils(driver);
+
+        long start = System.nanoTime();
+        Assert.assertTrue(utils.isElementAbsent(missing), "A missing element should be absent");
+        Assert.assertTrue(utils.isElementAbsent(hidden), "A hidden element should be absent");
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        Assert.assertFalse(utils.isElementAbsent(shown), "A shown element should not be absent");
+
+        Assert.assertTrue(elapsedMillis < 1000, "Absent elements should not wait out the timeout, took " + elapsedMillis + " ms");
+        logger.info("Absence test passed in " + elapsedMillis + " ms");
+    }
+
+    @Test(description = "A probe fails the test once the wait budget is used up instead of answering false")
+    public void testBudgetExhaustionPropagates() throws InterruptedException {
+        By title = By.id("wait-policy-title");
+        WebDriverUtils utils = new WebDriverUtils(new InMemoryWebDriver().withElement(title, "Products"));
+        System.setProperty("wait.test.budget.seconds", "1");
+        try {
+            WaitPolicy.startTestBudget();
+            Assert.assertTrue(utils.isElementVisible(title), "The element should be visible within the budget");
+            Thread.sleep(1100);
+            Assert.assertThrows(WaitBudgetExceededException.class, () -> utils.isElementVisible(title));
+            Assert.assertThrows(WaitBudgetExceededException.class, () -> utils.isElementAbsent(title));
+        } finally {
+            System.clearProperty("wait.test.budget.seconds");
+            WaitPolicy.clearTestBudget();
+        }
+        logger.info("Budget exhaustion test passed");
+    }
+}
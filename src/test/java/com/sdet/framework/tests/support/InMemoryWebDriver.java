@@ -0,0 +1,302 @@
+package com.sdet.framework.tests.support;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * InMemoryWebDriver - a WebDriver whose page is a map of locators to elements, for unit tests and
+ * benchmarks of WebDriverUtils without a browser. Commands return at once, so a benchmark measures the
+ * framework's own overhead (waits, metrics, logging) and none of the browser's.
+ *
+ * Scripts fail with a JavascriptException unless a handler is set with {@link #onAsyncScript(Function)};
+ * timeouts and other driver options are accepted and ignored. Handles of removed or replaced elements
+ * throw StaleElementReferenceException, as they would after the browser re-rendered them.
+ */
+public class InMemoryWebDriver implements WebDriver, JavascriptExecutor {
+
+    private final Map<By, Element> elements = new ConcurrentHashMap<>();
+    private volatile String currentUrl = "about:blank";
+    private volatile Function<Object[], Object> asyncScripts;
+
+    /**
+     * Add a visible, enabled element with the given text to the page
+     */
+    public InMemoryWebDriver withElement(By locator, String text) {
+        detach(elements.put(locator, new Element(text)));
+        return this;
+    }
+
+    /**
+     * Remove an element from the page
+     */
+    public InMemoryWebDriver removeElement(By locator) {
+        detach(elements.remove(locator));
+        return this;
+    }
+
+    private static void detach(Element element) {
+        if (element != null) {
+            element.attached = false;
+        }
+    }
+
+    /**
+     * Show or hide an element
+     */
+    public InMemoryWebDriver setDisplayed(By locator, boolean displayed) {
+        ((Element) findElement(locator)).displayed = displayed;
+        return this;
+    }
+
+    /**
+     * Enable or disable an element
+     */
+    public InMemoryWebDriver setEnabled(By locator, boolean enabled) {
+        ((Element) findElement(locator)).enabled = enabled;
+        return this;
+    }
+
+    /**
+     * Answer executeAsyncScript calls with the handler, given the script arguments
+     */
+    public InMemoryWebDriver onAsyncScript(Function<Object[], Object> handler) {
+        this.asyncScripts = handler;
+        return this;
+    }
+
+    @Override
+    public Object executeScript(String script, Object... args) {
+        throw new JavascriptException("Scripts are not simulated");
+    }
+
+    @Override
+    public Object executeAsyncScript(String script, Object... args) {
+        Function<Object[], Object> handler = asyncScripts;
+        if (handler == null) {
+            throw new JavascriptException("Scripts are not simulated");
+        }
+        return handler.apply(args);
+    }
+
+    @Override
+    public void get(String url) {
+        currentUrl = url;
+    }
+
+    @Override
+    public String getCurrentUrl() {
+        return currentUrl;
+    }
+
+    @Override
+    public String getTitle() {
+        return "In-memory page";
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        Element element = elements.get(by);
+        return element == null ? List.of() : List.of(element);
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        Element element = elements.get(by);
+        if (element == null) {
+            throw new NoSuchElementException("No element in memory for " + by);
+        }
+        return element;
+    }
+
+    @Override
+    public String getPageSource() {
+        return "<html></html>";
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public void quit() {
+        elements.clear();
+    }
+
+    @Override
+    public Set<String> getWindowHandles() {
+        return Set.of("main");
+    }
+
+    @Override
+    public String getWindowHandle() {
+        return "main";
+    }
+
+    @Override
+    public TargetLocator switchTo() {
+        throw new UnsupportedOperationException("Windows and frames are not simulated");
+    }
+
+    @Override
+    public Navigation navigate() {
+        return new Navigation() {
+            @Override
+            public void back() {
+            }
+
+            @Override
+            public void forward() {
+            }
+
+            @Override
+            public void to(String url) {
+                get(url);
+            }
+
+            @Override
+            public void to(URL url) {
+                get(url.toString());
+            }
+
+            @Override
+            public void refresh() {
+            }
+        };
+    }
+
+    @Override
+    public Options manage() {
+        // Every option setter is accepted and ignored; getters return null
+        return (Options) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Options.class, Timeouts.class},
+                (proxy, method, args) -> method.getReturnType().isInstance(proxy) ? proxy : null);
+    }
+
+    /** An element holding its text */
+    private static final class Element implements WebElement {
+
+        private volatile String text;
+        private volatile boolean displayed = true;
+        private volatile boolean enabled = true;
+        private volatile boolean attached = true;
+
+        Element(String text) {
+            this.text = text;
+        }
+
+        private void checkAttached() {
+            if (!attached) {
+                throw new StaleElementReferenceException("Element is no longer attached to the page");
+            }
+        }
+
+        @Override
+        public void click() {
+            checkAttached();
+        }
+
+        @Override
+        public void submit() {
+        }
+
+        @Override
+        public void sendKeys(CharSequence... keysToSend) {
+            checkAttached();
+            StringBuilder typed = new StringBuilder(text);
+            for (CharSequence keys : keysToSend) {
+                typed.append(keys);
+            }
+            text = typed.toString();
+        }
+
+        @Override
+        public void clear() {
+            checkAttached();
+            text = "";
+        }
+
+        @Override
+        public String getTagName() {
+            return "input";
+        }
+
+        @Override
+        public String getAttribute(String name) {
+            return "value".equals(name) ? text : null;
+        }
+
+        @Override
+        public boolean isSelected() {
+            return false;
+        }
+
+        @Override
+        public boolean isEnabled() {
+            checkAttached();
+            return enabled;
+        }
+
+        @Override
+        public String getText() {
+            checkAttached();
+            return text;
+        }
+
+        @Override
+        public List<WebElement> findElements(By by) {
+            return List.of();
+        }
+
+        @Override
+        public WebElement findElement(By by) {
+            throw new NoSuchElementException("Nested elements are not simulated: " + by);
+        }
+
+        @Override
+        public boolean isDisplayed() {
+            checkAttached();
+            return displayed;
+        }
+
+        @Override
+        public Point getLocation() {
+            return new Point(0, 0);
+        }
+
+        @Override
+        public Dimension getSize() {
+            return new Dimension(100, 20);
+        }
+
+        @Override
+        public Rectangle getRect() {
+            return new Rectangle(getLocation(), getSize());
+        }
+
+        @Override
+        public String getCssValue(String propertyName) {
+            return "";
+        }
+
+        @Override
+        public <X> X getScreenshotAs(OutputType<X> target) {
+            throw new UnsupportedOperationException("Screenshots are not simulated");
+        }
+    }
+}
@@ -2,8 +2,6 @@ package com.sdet.framework.tests.ui;
 
 import com.sdet.framework.core.BaseTest;
 import com.sdet.framework.pages.DashboardPage;
-import com.sdet.framework.pages.LoginPage;
-import com.sdet.framework.utils.ConfigReader;
 import org.testng.annotations.Test;
 import org.testng.Assert;
 
@@ -12,12 +10,9 @@ import org.testng.Assert;
  */
 public class DashboardTest extends BaseTest {
 
-
     @Test(groups = {"ui"}, description = "Verify dashboard page after login")
     public void testDashboardPageDisplay() {
-        driver.navigate().to(ConfigReader.getApplicationUrl());
-        LoginPage loginPage = new LoginPage(driver);
-        loginPage.login("standard_user@saucedemo.com", "secret_sauce");
+        loginAs("standard");
 
         DashboardPage dashboardPage = new DashboardPage(driver);
         Assert.assertTrue(dashboardPage.isProductListVisible(), "Product list should be visible");
@@ -26,9 +21,7 @@ public class DashboardTest extends BaseTest {
 
     @Test(groups = {"ui"}, description = "Verify logout functionality")
     public void testLogoutFunctionality() {
-        driver.navigate().to(ConfigReader.getApplicationUrl());
-        LoginPage loginPage = new LoginPage(driver);
-        loginPage.login("standard_user@saucedemo.com", "secret_sauce");
+        loginAs("standard");
 
         DashboardPage dashboardPage = new DashboardPage(driver);
         Assert.assertTrue(dashboardPage.isUserLoggedIn(), "User should be logged in");
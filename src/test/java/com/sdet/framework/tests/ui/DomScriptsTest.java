@@ -0,0 +1,104 @@
+package com.sdet.framework.tests.ui;
+
+import com.sdet.framework.core.BaseTest;
+import com.sdet.framework.utils.DomWait;
+import com.sdet.framework.utils.ElementState;
+import com.sdet.framework.utils.WebDriverUtils;
+import org.openqa.selenium.By;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * DomScriptsTest - runs the in-page locate/read/fill scripts in a real browser against a local page,
+ * for every locator strategy page objects use (no app URL needed)
+ */
+public class DomScriptsTest extends BaseTest {
+
+    private final By email = By.id("email");
+    private final By password = By.name("password");
+    private final By locked = By.id("locked");
+    private final By banner = By.className("banner");
+    private final By hiddenNote = By.className("hidden-note");
+    private final By heading = By.tagName("h1");
+    private WebDriverUtils utils;
+
+    private static long domWaitStat(String name) {
+        String stats = DomWait.getStats();
+        Matcher matcher = Pattern.compile(name + "=(\\d+)").matcher(stats == null ? "" : stats);
+        return matcher.find() ? Long.parseLong(matcher.group(1)) : 0;
+    }
+
+    @BeforeMethod
+    public void openFixture() {
+        utils = new WebDriverUtils(driver);
+        utils.navigateToUrl(Paths.get("src/test/resources/pages/dom-scripts.html").toUri().toString());
+    }
+
+    @Test(groups = {"ui"}, description = "fillForm finds fields located by id and name")
+    public void testFillFormById() {
+        Map<By, String> fields = new LinkedHashMap<>();
+        fields.put(email, "standard_user@saucedemo.com");
+        fields.put(password, "secret");
+
+        utils.fillForm(fields);
+
+        Map<By, ElementState> states = utils.getElementStates(List.of(email, password), "value");
+        Assert.assertEquals(states.get(email).value(), "standard_user@saucedemo.com");
+        Assert.assertEquals(states.get(password).value(), "secret");
+        logger.info("Fill form by id test passed");
+    }
+
+    @Test(groups = {"ui"}, description = "Element states are read for id, class name and tag name locators")
+    public void testReadStatesByEveryStrategy() {
+        Map<By, ElementState> states = utils.getElementStates(List.of(locked, banner, hiddenNote, heading, By.id("missing")));
+
+        Assert.assertTrue(states.get(locked).present(), "By.id should be found");
+        Assert.assertFalse(states.get(locked).enabled(), "The disabled field should be reported disabled");
+        Assert.assertEquals(states.get(banner).text(), "Welcome back", "By.className should match one of several classes");
+        Assert.assertTrue(states.get(hiddenNote).present(), "A hidden element is still present");
+        Assert.assertFalse(states.get(hiddenNote).displayed(), "A hidden element is not displayed");
+        Assert.assertEquals(states.get(heading).text(), "In-page script fixture", "By.tagName should be found");
+        Assert.assertFalse(states.get(By.id("missing")).present(), "A missing element should be absent");
+        logger.info("Read states test passed");
+    }
+
+    @Test(groups = {"ui"}, description = "An in-page wait on an id locator resolves once the element is added")
+    public void testInPageWaitById() {
+        long resolved = domWaitStat("resolved");
+        long timedOut = domWaitStat("timedOut");
+        utils.executeScript("setTimeout(function () {"
+                + " var p = document.createElement('p'); p.id = 'late'; p.textContent = 'Loaded late';"
+                + " document.body.appendChild(p); }, 300);");
+
+        long start = System.nanoTime();
+        String text = utils.getText(By.id("late"));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        Assert.assertEquals(text, "Loaded late");
+        Assert.assertEquals(domWaitStat("resolved"), resolved + 1, "The in-page wait should resolve");
+        Assert.assertEquals(domWaitStat("timedOut"), timedOut, "The in-page wait should not time out");
+        Assert.assertTrue(elapsedMillis < 5_000, "The wait should end when the element appears, took " + elapsedMillis + " ms");
+        logger.info("In-page wait by id test passed in " + elapsedMillis + " ms");
+    }
+
+    @Test(groups = {"ui"}, description = "Absence checks in the page tell shown, hidden and missing elements apart")
+    public void testIsElementAbsentInPage() {
+        long fallbacks = domWaitStat("fallbacks");
+
+        Assert.assertFalse(utils.isElementAbsent(email), "A visible By.id element is not absent");
+        Assert.assertFalse(utils.isElementAbsent(banner), "A visible By.className element is not absent");
+        Assert.assertTrue(utils.isElementAbsent(hiddenNote), "A hidden element is absent");
+        Assert.assertTrue(utils.isElementAbsent(By.id("missing")), "A missing element is absent");
+
+        Assert.assertEquals(domWaitStat("fallbacks"), fallbacks, "Absence should be checked by the in-page script");
+        logger.info("In-page absence test passed");
+    }
+}
@@ -27,7 +27,6 @@ public class HealeniumDemoTest extends BaseTest {
     public void setUpDemo() {
         String browser = ConfigReader.getBrowser();
         driver = DriverFactory.initializeDriver(browser);
-        driver.manage().window().maximize();
         logger.info("Healenium Demo test setup completed");
     }
 
@@ -1,3 +1,4 @@
+@apitest
 Feature: API Testing
   As a QA Engineer
   I want to test REST APIs